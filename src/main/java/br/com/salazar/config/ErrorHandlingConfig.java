@@ -0,0 +1,17 @@
+package br.com.salazar.config;
+
+import br.com.salazar.exception.ErrorTraceSampling;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ErrorHandlingConfig {
+
+    /**
+     * Frequência de captura de stack trace nas exceções de negócio (1 = sempre).
+     * Erros inesperados (500) não são amostrados: o log sempre traz o trace completo.
+     */
+    public ErrorHandlingConfig(@Value("${app.errors.trace-sample-every:1000}") int traceSampleEvery) {
+        ErrorTraceSampling.setSampleEvery(traceSampleEvery);
+    }
+}
@@ -1,4 +1,5 @@
 package br.com.salazar.config;
+import br.com.salazar.service.upstream.UpstreamMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -9,11 +10,11 @@ import java.time.Duration;
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public RestTemplate restTemplate(RestTemplateBuilder builder, UpstreamMetrics upstreamMetrics) {
         return builder
                 .setConnectTimeout(Duration.ofSeconds(10))
                 .setReadTimeout(Duration.ofSeconds(30))
+                .additionalInterceptors(upstreamMetrics)
                 .build();
     }
 }
-
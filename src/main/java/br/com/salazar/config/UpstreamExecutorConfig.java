@@ -0,0 +1,47 @@
+package br.com.salazar.config;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class UpstreamExecutorConfig {
+
+    /**
+     * Pool compartilhado para chamadas paralelas à API externa; o tamanho do pool
+     * limita quantas requisições simultâneas enviamos ao dummyjson
+     */
+    @Bean(name = "upstreamExecutor", destroyMethod = "shutdown")
+    public ExecutorService upstreamExecutor(@Value("${app.upstream.max-concurrency:16}") int maxConcurrency) {
+        return Executors.newFixedThreadPool(maxConcurrency, daemonThreads("upstream-"));
+    }
+
+    /**
+     * Pool exclusivo das buscas em lote (/products?ids=...), separado do
+     * upstreamExecutor para que um lote lento não atrase as renovações de token
+     * em segundo plano. A fila é limitada: com ela cheia a submissão é recusada
+     * (RejectedExecutionException) e o id volta em 'failed' no mesmo instante.
+     */
+    @Bean(name = "batchLookupExecutor", destroyMethod = "shutdown")
+    public ExecutorService batchLookupExecutor(@Value("${app.upstream.batch-concurrency:8}") int concurrency,
+                                               @Value("${app.upstream.batch-queue-capacity:200}") int queueCapacity) {
+        return new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads("batch-lookup-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.salazar.config.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncAppender que nunca bloqueia a thread da requisição e contabiliza descartes
+ *
+ * Os eventos vão para a fila circular de tamanho fixo do AsyncAppender e uma
+ * única thread de fundo faz a escrita. Com {@code neverBlock} a thread que loga
+ * nunca espera por I/O: com a fila acima do limite de descarte, eventos até INFO
+ * são descartados; com a fila cheia, qualquer evento é. Cada descarte é contado
+ * (contagem aproximada sob concorrência, feita antes do enfileiramento) e, no
+ * máximo uma vez por {@code reportIntervalSeconds}, um WARN com o total
+ * descartado no período é colocado na própria fila. Com a fila cheia o WARN
+ * também seria descartado: o período fica aberto e o relatório sai no primeiro
+ * evento que encontrar espaço, com todos os descartes acumulados até ali.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder DROPPED = new LongAdder();
+
+    private final AtomicLong lastReportNanos = new AtomicLong(System.nanoTime());
+    private long reportIntervalNanos = TimeUnit.SECONDS.toNanos(60);
+    private volatile long reportedDrops = DROPPED.sum();
+
+    public DropCountingAsyncAppender() {
+        setNeverBlock(true);
+        setIncludeCallerData(false);
+    }
+
+    public void setReportIntervalSeconds(int seconds) {
+        this.reportIntervalNanos = TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if ((remaining == 0 && isNeverBlock()) || (remaining < getDiscardingThreshold() && isDiscardable(event))) {
+            DROPPED.increment();
+        }
+        super.append(event);
+        reportDrops();
+    }
+
+    // Só a thread que vence o CAS monta o relatório do período; o total só avança
+    // depois que o WARN entrou na fila
+    private void reportDrops() {
+        long now = System.nanoTime();
+        long last = lastReportNanos.get();
+        if (now - last < reportIntervalNanos) {
+            return;
+        }
+        boolean pending = DROPPED.sum() > reportedDrops;
+        if ((pending && getRemainingCapacity() == 0) || !lastReportNanos.compareAndSet(last, now)) {
+            return;
+        }
+        long total = DROPPED.sum();
+        long dropped = total - reportedDrops;
+        if (dropped > 0) {
+            LoggerContext context = (LoggerContext) getContext();
+            super.append(new LoggingEvent(DropCountingAsyncAppender.class.getName(),
+                    context.getLogger(DropCountingAsyncAppender.class), Level.WARN,
+                    "Log assíncrono: {} eventos descartados nos últimos {}s ({} suprimidos por limite desde o início)",
+                    null, new Object[]{dropped, TimeUnit.NANOSECONDS.toSeconds(now - last),
+                    LogRateLimitFilter.suppressedEvents()}));
+            reportedDrops = total;
+        }
+    }
+
+    /**
+     * Total de eventos descartados por fila cheia desde o início da JVM
+     */
+    public static long droppedEvents() {
+        return DROPPED.sum();
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.salazar.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite de taxa e amostragem de log por logger, aplicado antes do evento existir
+ *
+ * Configurado no logback-spring.xml com um elemento por regra:
+ * {@code <limit>logger:eventosPorSegundo:amostra</limit>}. A regra vale para o
+ * logger indicado e seus filhos (prefixo mais longo vence). Com amostra N só 1
+ * a cada N eventos segue adiante; com eventosPorSegundo maior que zero os
+ * eventos amostrados ainda passam por um token bucket (GCRA, rajada de um
+ * segundo). ERROR nunca é limitado.
+ *
+ * Como é um TurboFilter, a decisão acontece antes de o Logback montar o
+ * LoggingEvent: evento suprimido não aloca nem formata nada. Os suprimidos são
+ * contados em {@link #suppressedEvents()}.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public class LogRateLimitFilter extends TurboFilter {
+
+    private static final LongAdder SUPPRESSED = new LongAdder();
+
+    private static final Limit UNLIMITED = new Limit("", 0, 1, 0);
+
+    private final List<String> definitions = new ArrayList<>();
+    private final Map<String, Limit> byLogger = new ConcurrentHashMap<>();
+    private final LongSupplier nanoTime;
+    private List<Limit> limits = List.of();
+
+    public LogRateLimitFilter() {
+        this(System::nanoTime);
+    }
+
+    public LogRateLimitFilter(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Adiciona uma regra no formato {@code logger:eventosPorSegundo:amostra}
+     */
+    public void addLimit(String definition) {
+        definitions.add(definition.trim());
+    }
+
+    @Override
+    public void start() {
+        List<Limit> parsed = new ArrayList<>();
+        long now = nanoTime.getAsLong();
+        for (String definition : definitions) {
+            String[] parts = definition.split(":");
+            try {
+                if (parts.length != 3 || parts[0].isBlank()) {
+                    throw new IllegalArgumentException();
+                }
+                int perSecond = Integer.parseInt(parts[1].trim());
+                int sampleEvery = Integer.parseInt(parts[2].trim());
+                if (perSecond < 0 || sampleEvery < 1) {
+                    throw new IllegalArgumentException();
+                }
+                parsed.add(new Limit(parts[0].trim(), perSecond, sampleEvery, now));
+            } catch (IllegalArgumentException e) {
+                addError("Regra de limite de log inválida (esperado logger:eventosPorSegundo:amostra): " + definition);
+            }
+        }
+        limits = List.copyOf(parsed);
+        byLogger.clear();
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Chamadas de isXxxEnabled() chegam sem formato e não consomem cota
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.ERROR)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Limit limit = byLogger.computeIfAbsent(logger.getName(), this::resolve);
+        if (limit == UNLIMITED || limit.admit(nanoTime.getAsLong())) {
+            return FilterReply.NEUTRAL;
+        }
+        SUPPRESSED.increment();
+        return FilterReply.DENY;
+    }
+
+    private Limit resolve(String loggerName) {
+        Limit best = UNLIMITED;
+        for (Limit limit : limits) {
+            if (limit.appliesTo(loggerName) && limit.name.length() >= best.name.length()) {
+                best = limit;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Total de eventos suprimidos por limite ou amostragem desde o início da JVM
+     */
+    public static long suppressedEvents() {
+        return SUPPRESSED.sum();
+    }
+
+    private static final class Limit {
+        private final String name;
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final int sampleEvery;
+        private final AtomicLong seen = new AtomicLong();
+        // Instante teórico de chegada do próximo evento (GCRA)
+        private final AtomicLong theoreticalArrival;
+
+        Limit(String name, int perSecond, int sampleEvery, long now) {
+            this.name = name;
+            this.intervalNanos = perSecond == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / perSecond;
+            this.burstNanos = TimeUnit.SECONDS.toNanos(1) - intervalNanos;
+            this.sampleEvery = sampleEvery;
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        boolean appliesTo(String loggerName) {
+            return loggerName.startsWith(name)
+                    && (loggerName.length() == name.length() || loggerName.charAt(name.length()) == '.');
+        }
+
+        boolean admit(long now) {
+            if (sampleEvery > 1 && seen.getAndIncrement() % sampleEvery != 0) {
+                return false;
+            }
+            if (intervalNanos == 0) {
+                return true;
+            }
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long start = arrival - now > 0 ? arrival : now;
+                if (start - now > burstNanos) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.salazar.config.metrics;
+
+import br.com.salazar.model.dto.EndpointCostDto;
+import br.com.salazar.model.dto.EndpointCostsResponseDto;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bytes alocados e tempo de CPU por endpoint
+ *
+ * Os contadores por thread do ThreadMXBean (alocação e CPU) são lidos no início
+ * e no fim de cada requisição, na thread que a atende; a diferença é somada ao
+ * endpoint (método + padrão do mapeamento, ex.: "GET /products/{id}"). São duas
+ * leituras por requisição em cada ponta e nenhuma alocação por amostra.
+ *
+ * Trabalho feito em outras threads (pool upstream, escrita assíncrona de
+ * /products/stream, log assíncrono) não entra na conta do endpoint.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class EndpointAccountingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(EndpointAccountingFilter.class);
+
+    private static final String UNMATCHED = "UNMATCHED";
+    private static final int MAX_ENDPOINTS = 256;
+
+    private final boolean enabled;
+    private final java.lang.management.ThreadMXBean threadBean;
+    private final com.sun.management.ThreadMXBean threads;
+    private final boolean allocationSupported;
+    private final boolean cpuSupported;
+    private final Map<String, Cost> costs = new ConcurrentHashMap<>();
+
+    public EndpointAccountingFilter(@Value("${app.metrics.endpoint-accounting:true}") boolean enabled) {
+        this.threadBean = ManagementFactory.getThreadMXBean();
+        this.threads = threadBean instanceof com.sun.management.ThreadMXBean sun ? sun : null;
+        this.allocationSupported = threads != null && threads.isThreadAllocatedMemorySupported()
+                && threads.isThreadAllocatedMemoryEnabled();
+        this.cpuSupported = threadBean.isCurrentThreadCpuTimeSupported() && threadBean.isThreadCpuTimeEnabled();
+        this.enabled = enabled && (allocationSupported || cpuSupported);
+        if (enabled && !this.enabled) {
+            log.warn("JVM sem contadores de alocação/CPU por thread; contabilidade por endpoint desativada");
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long allocatedBefore = allocatedBytes();
+        long cpuBefore = cpuNanos();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long allocated = allocatedBytes() - allocatedBefore;
+            long cpu = cpuNanos() - cpuBefore;
+            cost(request).add(allocated, cpu);
+        }
+    }
+
+    private long allocatedBytes() {
+        return allocationSupported ? threads.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    private long cpuNanos() {
+        return cpuSupported ? threadBean.getCurrentThreadCpuTime() : 0L;
+    }
+
+    private Cost cost(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? request.getMethod() + " " + pattern : UNMATCHED;
+        Cost cost = costs.get(endpoint);
+        if (cost == null) {
+            if (costs.size() >= MAX_ENDPOINTS) {
+                endpoint = UNMATCHED;
+            }
+            cost = costs.computeIfAbsent(endpoint, k -> new Cost());
+        }
+        return cost;
+    }
+
+    /**
+     * Totais acumulados por endpoint, do maior volume alocado para o menor
+     */
+    public EndpointCostsResponseDto snapshot() {
+        List<EndpointCostDto> endpoints = new ArrayList<>();
+        costs.forEach((endpoint, cost) -> {
+            long requests = cost.requests.sum();
+            long allocated = cost.allocatedBytes.sum();
+            long cpu = cost.cpuNanos.sum();
+            EndpointCostDto dto = new EndpointCostDto();
+            dto.setEndpoint(endpoint);
+            dto.setRequests(requests);
+            dto.setAllocatedBytes(allocated);
+            dto.setAllocatedBytesPerRequest(requests == 0 ? 0 : allocated / requests);
+            dto.setCpuMs(cpu / 1_000_000.0);
+            dto.setCpuMicrosPerRequest(requests == 0 ? 0 : cpu / 1_000.0 / requests);
+            endpoints.add(dto);
+        });
+        endpoints.sort(Comparator.comparing(EndpointCostDto::getAllocatedBytes).reversed());
+
+        EndpointCostsResponseDto response = new EndpointCostsResponseDto();
+        response.setAllocationSupported(allocationSupported);
+        response.setCpuSupported(cpuSupported);
+        response.setEndpoints(endpoints);
+        return response;
+    }
+
+    private static final class Cost {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder cpuNanos = new LongAdder();
+
+        void add(long allocated, long cpu) {
+            requests.increment();
+            allocatedBytes.add(allocated);
+            cpuNanos.add(cpu);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.salazar.config.timing;
+
+import br.com.salazar.service.timing.RequestTiming;
+import br.com.salazar.service.timing.RequestTiming.Phase;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Mede o Bean Validation dos corpos com @Valid como fase "validation"
+ *
+ * Só substitui o validador do MVC quando o Server-Timing está ligado; caso
+ * contrário o Spring Boot mantém o validador padrão, sem nenhum custo extra.
+ */
+@Configuration
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    private final boolean enabled;
+    private final ObjectProvider<jakarta.validation.Validator> validators;
+
+    public ServerTimingConfig(@Value("${app.timing.server-timing:false}") boolean enabled,
+                              ObjectProvider<jakarta.validation.Validator> validators) {
+        this.enabled = enabled;
+        this.validators = validators;
+    }
+
+    @Override
+    public Validator getValidator() {
+        jakarta.validation.Validator validator = enabled ? validators.getIfAvailable() : null;
+        if (validator == null) {
+            return null;
+        }
+        return new TimedValidator(validator instanceof SmartValidator smart
+                ? smart : new SpringValidatorAdapter(validator));
+    }
+
+    private static final class TimedValidator implements SmartValidator {
+        private final SmartValidator delegate;
+
+        TimedValidator(SmartValidator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean supports(Class<?> clazz) {
+            return delegate.supports(clazz);
+        }
+
+        @Override
+        public void validate(Object target, Errors errors) {
+            long started = RequestTiming.start();
+            try {
+                delegate.validate(target, errors);
+            } finally {
+                RequestTiming.stop(Phase.VALIDATION, started);
+            }
+        }
+
+        @Override
+        public void validate(Object target, Errors errors, Object... validationHints) {
+            long started = RequestTiming.start();
+            try {
+                delegate.validate(target, errors, validationHints);
+            } finally {
+                RequestTiming.stop(Phase.VALIDATION, started);
+            }
+        }
+
+        @Override
+        public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+                                  Object... validationHints) {
+            delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            return delegate.unwrap(type);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package br.com.salazar.config.timing;
+
+import br.com.salazar.service.timing.RequestTiming;
+import br.com.salazar.service.timing.RequestTiming.Phase;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * Header Server-Timing e linha de log estruturada com o tempo de cada fase
+ *
+ * Desligado por padrão (app.timing.server-timing). Ligado, abre o contexto de
+ * {@link RequestTiming} para a requisição e fecha o header no primeiro byte do
+ * corpo, enquanto os headers ainda podem ser enviados; nada é bufferizado. Por
+ * isso a serialization do header é o tempo até a primeira escrita (o corpo
+ * inteiro, quando cabe no buffer do conversor); a linha de log traz também o
+ * total até o fim da escrita. Respostas em streaming (/stream) não são
+ * medidas: o corpo é escrito em outra thread, fora do contexto da requisição.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    static final String HEADER = "Server-Timing";
+
+    private final boolean enabled;
+
+    public ServerTimingFilter(@Value("${app.timing.server-timing:false}") boolean enabled) {
+        this.enabled = enabled;
+        RequestTiming.setEnabled(enabled);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().endsWith("/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.attach();
+        TimedResponse timed = new TimedResponse(response, timing);
+        try {
+            chain.doFilter(request, timed);
+        } finally {
+            RequestTiming.detach();
+            // Sem corpo, o header sai aqui; com corpo, já saiu na primeira escrita
+            String header = timed.writeHeader();
+            logTiming(request, timed.getStatus(), timing, timing.totalMillis(), header);
+        }
+    }
+
+    private static void logTiming(HttpServletRequest request, int status, RequestTiming timing, double total,
+                                  String header) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        LoggingEventBuilder event = log.atInfo()
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("route", pattern != null ? pattern : request.getRequestURI())
+                .addKeyValue("status", status)
+                .addKeyValue("totalMs", total);
+        for (Phase phase : Phase.values()) {
+            if (timing.touched(phase)) {
+                event = event.addKeyValue(phase.metric() + "Ms", timing.millis(phase));
+            }
+        }
+        event.log("Server-Timing {} {}: {}", request.getMethod(), request.getRequestURI(), header);
+    }
+
+    /**
+     * Resposta que grava o Server-Timing imediatamente antes do primeiro byte do
+     * corpo (ou de um flush, sendError ou redirect, que também a confirmam)
+     */
+    private static final class TimedResponse extends HttpServletResponseWrapper {
+
+        private final RequestTiming timing;
+        private String header;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        TimedResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        String writeHeader() {
+            if (header == null) {
+                timing.completePending(Phase.SERIALIZATION);
+                header = timing.header(timing.totalMillis());
+                if (!isCommitted()) {
+                    setHeader(HEADER, header);
+                }
+            }
+            return header;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new FirstWriteOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new FirstWriteWriter(super.getWriter()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+
+        private final class FirstWriteOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            FirstWriteOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                writeHeader();
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                writeHeader();
+                delegate.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                writeHeader();
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                writeHeader();
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                delegate.setWriteListener(listener);
+            }
+        }
+
+        private final class FirstWriteWriter extends Writer {
+
+            private final PrintWriter delegate;
+
+            FirstWriteWriter(PrintWriter delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                writeHeader();
+                delegate.write(cbuf, off, len);
+            }
+
+            @Override
+            public void flush() {
+                writeHeader();
+                delegate.flush();
+            }
+
+            @Override
+            public void close() {
+                writeHeader();
+                delegate.close();
+            }
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package br.com.salazar.controller;
 
+import br.com.salazar.exception.AuthenticationException;
 import br.com.salazar.model.dto.LoginRequestDto;
 import br.com.salazar.model.dto.LoginResponseDto;
+import br.com.salazar.model.dto.RefreshTokenRequestDto;
+import br.com.salazar.model.dto.RefreshTokenResponseDto;
 import br.com.salazar.service.AuthService;
+import br.com.salazar.service.auth.LoginRateLimiter;
+import br.com.salazar.service.auth.TokenSessionManager;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,20 +22,45 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final TokenSessionManager sessions;
+    private final LoginRateLimiter rateLimiter;
 
     @Autowired
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, TokenSessionManager sessions, LoginRateLimiter rateLimiter) {
         this.authService = authService;
+        this.sessions = sessions;
+        this.rateLimiter = rateLimiter;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDto> login(@Valid @RequestBody LoginRequestDto loginRequest) {
+    public ResponseEntity<LoginResponseDto> login(@Valid @RequestBody LoginRequestDto loginRequest,
+                                                  HttpServletRequest request) {
+        // Rajadas por usuário ou por IP param aqui, sem chegar à API externa
+        long retryAfter = rateLimiter.tryAcquire(loginRequest.getUsername(), request.getRemoteAddr());
+        if (retryAfter > 0) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .build();
+        }
         try {
             LoginResponseDto loginResponse = authService.authenticate(loginRequest);
+            sessions.register(loginResponse);
             return ResponseEntity.status(HttpStatus.CREATED).body(loginResponse);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
     }
-}
 
+    /**
+     * Renova o token de acesso; perto da expiração a resposta normalmente já
+     * vem da renovação feita em segundo plano
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<RefreshTokenResponseDto> refresh(@Valid @RequestBody RefreshTokenRequestDto refreshRequest) {
+        try {
+            return ResponseEntity.ok(sessions.refresh(refreshRequest.getRefreshToken()));
+        } catch (AuthenticationException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+}
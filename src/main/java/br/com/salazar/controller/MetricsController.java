@@ -0,0 +1,35 @@
+package br.com.salazar.controller;
+
+import br.com.salazar.config.metrics.EndpointAccountingFilter;
+import br.com.salazar.model.dto.EndpointCostsResponseDto;
+import br.com.salazar.model.dto.UpstreamMetricsResponseDto;
+import br.com.salazar.service.upstream.UpstreamMetrics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/metrics")
+public class MetricsController {
+
+    private final UpstreamMetrics upstreamMetrics;
+    private final EndpointAccountingFilter endpointAccounting;
+
+    public MetricsController(UpstreamMetrics upstreamMetrics, EndpointAccountingFilter endpointAccounting) {
+        this.upstreamMetrics = upstreamMetrics;
+        this.endpointAccounting = endpointAccounting;
+    }
+
+    // GET /metrics/upstream (latência p50/p99/p999, chamadas em andamento, bytes e falhas por rota da API externa)
+    @GetMapping("/upstream")
+    public ResponseEntity<UpstreamMetricsResponseDto> upstream() {
+        return ResponseEntity.ok(upstreamMetrics.snapshot());
+    }
+
+    // GET /metrics/endpoints (bytes alocados e CPU por endpoint, medidos na thread da requisição)
+    @GetMapping("/endpoints")
+    public ResponseEntity<EndpointCostsResponseDto> endpoints() {
+        return ResponseEntity.ok(endpointAccounting.snapshot());
+    }
+}
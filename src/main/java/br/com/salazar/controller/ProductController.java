@@ -6,6 +6,7 @@ import br.com.salazar.model.dto.ProductsResponseDto;
 import br.com.salazar.service.ProductService;
 import br.com.salazar.service.ProductService.ForbiddenException;
 import br.com.salazar.service.ProductService.UnauthorizedException;
+import br.com.salazar.service.auth.JwtVerifier;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,10 +17,16 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = "*")
 public class ProductController {
 
+    // Pré-alocada e sem stack trace: requisição sem token é recusada com frequência
+    private static final UnauthorizedException MISSING_BEARER =
+            new UnauthorizedException("Missing or invalid Authorization header", false);
+
     private final ProductService service;
+    private final JwtVerifier jwtVerifier;
 
-    public ProductController(ProductService service) {
+    public ProductController(ProductService service, JwtVerifier jwtVerifier) {
         this.service = service;
+        this.jwtVerifier = jwtVerifier;
     }
 
     @GetMapping("/products")
@@ -28,6 +35,8 @@ public class ProductController {
 
         // lança UnauthorizedException se faltar/for inválido
         String token = extractBearer(authorizationHeader);
+        // Token malformado ou expirado é recusado sem chamar a API externa
+        jwtVerifier.verify(token);
         ProductsResponseDto products = service.getProducts(token);
         return ResponseEntity.ok(products);
     }
@@ -43,7 +52,7 @@ public class ProductController {
 
     private String extractBearer(String header) {
         if (header == null || !header.startsWith("Bearer ")) {
-            throw new UnauthorizedException("Missing or invalid Authorization header");
+            throw MISSING_BEARER;
         }
         return header.substring("Bearer ".length()).trim();
     }
@@ -2,12 +2,21 @@ package br.com.salazar.controller;
 
 import br.com.salazar.model.dto.ProductDto;
 import br.com.salazar.model.dto.ProductCreateRequestDto;
+import br.com.salazar.model.dto.ProductPricingResponseDto;
+import br.com.salazar.model.dto.ProductStatsResponseDto;
+import br.com.salazar.model.dto.ProductsBatchResponseDto;
+import br.com.salazar.model.dto.ProductSuggestionsResponseDto;
 import br.com.salazar.model.dto.ProductsResponseDto;
+import br.com.salazar.service.ProductCatalogService;
 import br.com.salazar.service.ProductService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/products")
@@ -15,9 +24,11 @@ import org.springframework.web.bind.annotation.*;
 public class ProductPublicController {
 
     private final ProductService service;
+    private final ProductCatalogService catalog;
 
-    public ProductPublicController(ProductService service) {
+    public ProductPublicController(ProductService service, ProductCatalogService catalog) {
         this.service = service;
+        this.catalog = catalog;
     }
 
     // GET /products (público)
@@ -27,12 +38,86 @@ public class ProductPublicController {
         return ResponseEntity.ok(products);
     }
 
+    // GET /products/stream (catálogo completo em NDJSON, sem materializar a lista)
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+        StreamingResponseBody body = catalog::streamCatalog;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // GET /products/suggest?prefix= (autocomplete servido do catálogo em memória)
+    @GetMapping("/suggest")
+    public ResponseEntity<ProductSuggestionsResponseDto> suggest(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(new ProductSuggestionsResponseDto(prefix, catalog.suggest(prefix, limit)));
+    }
+
+    // GET /products/search?q= (busca tolerante a erros de digitação em título e marca)
+    @GetMapping("/search")
+    public ResponseEntity<ProductsResponseDto> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "30") int limit) {
+
+        return ResponseEntity.ok(catalog.search(query, limit));
+    }
+
+    // GET /products/filter (filtro e ordenação no catálogo em memória)
+    @GetMapping("/filter")
+    public ResponseEntity<ProductsResponseDto> filter(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(defaultValue = "false") boolean inStock,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "asc") String order,
+            @RequestParam(defaultValue = "30") int limit) {
+
+        return ResponseEntity.ok(catalog.filter(category, brand, minPrice, maxPrice, minRating,
+                inStock, sort, order, limit));
+    }
+
+    // GET /products/pricing (valor de inventário e histograma de preços finais)
+    @GetMapping("/pricing")
+    public ResponseEntity<ProductPricingResponseDto> getPricing(
+            @RequestParam(defaultValue = "50") double bucketWidth,
+            @RequestParam(defaultValue = "20") int buckets) {
+
+        return ResponseEntity.ok(catalog.pricing(bucketWidth, buckets));
+    }
+
+    // GET /products/stats (agregados por categoria e marca)
+    @GetMapping("/stats")
+    public ResponseEntity<ProductStatsResponseDto> getStats() {
+        return ResponseEntity.ok(catalog.stats());
+    }
+
+    // GET /products?ids=1,5,42 (lote: produtos encontrados + ids não encontrados)
+    @GetMapping(params = "ids")
+    public ResponseEntity<ProductsBatchResponseDto> getProductsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(service.getProductsByIds(ids));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ProductDto> getProductById(@PathVariable Long id) {
         ProductDto product = service.getProductById(id);
         return ResponseEntity.ok(product);
     }
 
+    // GET /products/{id}/similar (recomendação por similaridade de conteúdo)
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<ProductsResponseDto> getSimilarProducts(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int k) {
+
+        return ResponseEntity.ok(catalog.similar(id, k));
+    }
+
     // ADDED: POST /products/add (público) - para os testes funcionarem
     @PostMapping("/add")
     public ResponseEntity<ProductDto> createProduct(
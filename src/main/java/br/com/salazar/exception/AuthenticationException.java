@@ -9,6 +9,9 @@ package br.com.salazar.exception;
  * - Token JWT é inválido ou expirado
  * - Falhas gerais de autenticação
  *
+ * É uma resposta esperada: o stack trace só é capturado por amostragem
+ * (ver {@link ErrorTraceSampling}).
+ *
  * @author Gabriel Salazar
  * @version 1.0
  * @since 2025-09-01
@@ -19,7 +22,7 @@ public class AuthenticationException extends RuntimeException {
      * Construtor padrão com mensagem genérica
      */
     public AuthenticationException() {
-        super("Authentication failed");
+        this("Authentication failed");
     }
 
     /**
@@ -28,7 +31,7 @@ public class AuthenticationException extends RuntimeException {
      * @param message Mensagem específica do erro de autenticação
      */
     public AuthenticationException(String message) {
-        super(message);
+        super(message, null, false, ErrorTraceSampling.capture(AuthenticationException.class));
     }
 
     /**
@@ -38,7 +41,7 @@ public class AuthenticationException extends RuntimeException {
      * @param cause Exceção que causou este erro
      */
     public AuthenticationException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, ErrorTraceSampling.capture(AuthenticationException.class));
     }
 
     /**
@@ -47,7 +50,7 @@ public class AuthenticationException extends RuntimeException {
      * @param cause Exceção que causou este erro
      */
     public AuthenticationException(Throwable cause) {
-        super("Authentication failed", cause);
+        this("Authentication failed", cause);
     }
 
     /**
@@ -0,0 +1,140 @@
+package br.com.salazar.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Corpos de erro (mesmo formato do ErrorResponseDto) montados direto em bytes
+ *
+ * Cada {@link Template} guarda o início do JSON já serializado
+ * ({"error":"...","status":404) para um status e título fixos; por requisição
+ * só são acrescentados mensagem, caminho, data e detalhes. Campos nulos são
+ * omitidos, como o ObjectMapper da aplicação faz com o DTO (NON_NULL). Não há
+ * DTO intermediário, ObjectMapper nem JsonGenerator no caminho, e a data é
+ * formatada no máximo uma vez por milissegundo, no mesmo formato que o Jackson
+ * usa para o LocalDateTime do DTO.
+ *
+ * Os corpos são sempre JSON; quem negocia CBOR ou Smile recebe o
+ * ErrorResponseDto pelo conversor correspondente (ver GlobalExceptionHandler).
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class ErrorBodies {
+
+    private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+
+    private final Clock clock;
+    private volatile Timestamp timestamp = new Timestamp(Long.MIN_VALUE, "");
+
+    public ErrorBodies() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public ErrorBodies(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Pré-serializa a parte fixa do corpo para um status e título
+     */
+    public Template template(HttpStatus status, String error) {
+        StringBuilder prefix = new StringBuilder(64).append('{');
+        if (error != null) {
+            prefix.append("\"error\":");
+            quote(error, prefix);
+            prefix.append(',');
+        }
+        prefix.append("\"status\":").append(status.value());
+        return new Template(status, error, prefix.toString());
+    }
+
+    // Campo precedido de vírgula, omitido quando o valor é null
+    private static void field(String name, String value, StringBuilder out) {
+        if (value != null) {
+            out.append(",\"").append(name).append("\":");
+            quote(value, out);
+        }
+    }
+
+    private static void quote(String value, StringBuilder out) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        ENCODER.quoteAsString(value, out);
+        out.append('"');
+    }
+
+    // Data atual com precisão de milissegundos, formatada como o LocalDateTimeSerializer do
+    // Jackson (ISO_LOCAL_DATE_TIME: segundos sempre presentes, fração sem zeros à direita);
+    // LocalDateTime.toString() omitiria os segundos zerados
+    private String now() {
+        long millis = clock.millis();
+        Timestamp current = timestamp;
+        if (current.millis != millis) {
+            String text = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), clock.getZone()));
+            current = new Timestamp(millis, text);
+            timestamp = current;
+        }
+        return current.text;
+    }
+
+    private record Timestamp(long millis, String text) {
+    }
+
+    /**
+     * Corpo de erro para um status e título fixos
+     */
+    public final class Template {
+        private final HttpStatus status;
+        private final String error;
+        private final String prefix;
+
+        private Template(HttpStatus status, String error, String prefix) {
+            this.status = status;
+            this.error = error;
+            this.prefix = prefix;
+        }
+
+        public HttpStatus status() {
+            return status;
+        }
+
+        public String error() {
+            return error;
+        }
+
+        /**
+         * @param details Detalhes de validação ou null
+         * @return Corpo JSON pronto para a resposta
+         */
+        public byte[] write(String message, List<String> details, String path) {
+            StringBuilder json = new StringBuilder(prefix.length() + 128).append(prefix);
+            field("message", message, json);
+            field("path", path, json);
+            json.append(",\"timestamp\":\"").append(now()).append('"');
+            if (details != null) {
+                json.append(",\"details\":[");
+                for (int i = 0; i < details.size(); i++) {
+                    if (i > 0) {
+                        json.append(',');
+                    }
+                    quote(details.get(i), json);
+                }
+                json.append(']');
+            }
+            return json.append('}').toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.salazar.exception;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Amostragem da captura de stack trace nas exceções de negócio esperadas
+ *
+ * Produto inexistente, token expirado e erros de validação são respostas
+ * normais (e frequentes sob tráfego de bots); capturar o stack trace de cada
+ * uma custa mais do que o resto do tratamento do erro. Cada tipo de exceção
+ * captura o trace na primeira ocorrência e depois em 1 a cada
+ * {@link #getSampleEvery()}, o suficiente para investigar a origem quando
+ * necessário. Erros inesperados (500) não passam por aqui e sempre são
+ * registrados com o trace completo.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class ErrorTraceSampling {
+
+    private static volatile int sampleEvery = 1000;
+
+    // Um contador por tipo de exceção; os tipos são poucos e fixos
+    private static final Map<Class<?>, AtomicLong> occurrences = new ConcurrentHashMap<>();
+
+    private ErrorTraceSampling() {
+    }
+
+    /**
+     * @param type Tipo da exceção sendo criada (ou registrada no log)
+     * @return true se esta ocorrência deve ter o stack trace completo
+     */
+    public static boolean capture(Class<?> type) {
+        long occurrence = occurrences.computeIfAbsent(type, t -> new AtomicLong()).getAndIncrement();
+        return occurrence % sampleEvery == 0;
+    }
+
+    /**
+     * @param every 1 captura sempre
+     */
+    public static void setSampleEvery(int every) {
+        if (every < 1) {
+            throw new IllegalArgumentException("app.errors.trace-sample-every deve ser positivo");
+        }
+        sampleEvery = every;
+    }
+
+    public static int getSampleEvery() {
+        return sampleEvery;
+    }
+}
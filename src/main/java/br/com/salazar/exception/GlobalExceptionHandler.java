@@ -1,13 +1,22 @@
 package br.com.salazar.exception;
 
 import br.com.salazar.model.dto.ErrorResponseDto;
+import br.com.salazar.service.jfr.ErrorHandledEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,66 +24,159 @@ import java.util.List;
 
 /**
  * Handler global para tratamento centralizado de exceções
+ *
+ * Erros de negócio esperados (autenticação, produto inexistente, validação)
+ * seguem um caminho rápido: as exceções não carregam stack trace (ver
+ * {@link ErrorTraceSampling}) e o corpo sai de um modelo pré-serializado de
+ * {@link ErrorBodies}, no mesmo formato do ErrorResponseDto. Clientes que
+ * preferem CBOR ou Smile no Accept recebem o próprio ErrorResponseDto, escrito
+ * pelo conversor do formato pedido.
+ *
+ * Toda exceção tratada aqui gera um {@link ErrorHandledEvent} quando há uma
+ * gravação JFR ativa.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ErrorBodies.Template authenticationFailed;
+    private final ErrorBodies.Template productNotFound;
+    private final ErrorBodies.Template validationFailed;
+    private final ErrorBodies.Template badRequest;
+    private final ErrorBodies.Template notAcceptable;
+
+    public GlobalExceptionHandler() {
+        ErrorBodies errorBodies = new ErrorBodies();
+        this.authenticationFailed = errorBodies.template(HttpStatus.UNAUTHORIZED, "Authentication Failed");
+        this.productNotFound = errorBodies.template(HttpStatus.NOT_FOUND, "Product Not Found");
+        this.validationFailed = errorBodies.template(HttpStatus.BAD_REQUEST, "Validation Failed");
+        this.badRequest = errorBodies.template(HttpStatus.BAD_REQUEST, "Bad Request");
+        this.notAcceptable = errorBodies.template(HttpStatus.NOT_ACCEPTABLE, "Not Acceptable");
+    }
+
     /**
      * Trata exceções de autenticação
      */
     @ExceptionHandler(AuthenticationException.class)
-    public ResponseEntity<ErrorResponseDto> handleAuthentication(
+    public ResponseEntity<?> handleAuthentication(
             AuthenticationException ex,
             HttpServletRequest request) {
 
-        ErrorResponseDto error = ErrorResponseDto.builder()
-                .error("Authentication Failed")
-                .message(ex.getMessage())
-                .timestamp(LocalDateTime.now())
-                .path(request.getRequestURI())
-                .status(HttpStatus.UNAUTHORIZED.value())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+        ErrorHandledEvent event = beginEvent();
+        return recorded(event, ex, request, fastError(authenticationFailed, ex.getMessage(), null, request));
     }
 
     /**
      * Trata exceções de produto não encontrado
      */
     @ExceptionHandler(ProductNotFoundException.class)
-    public ResponseEntity<ErrorResponseDto> handleProductNotFound(
+    public ResponseEntity<?> handleProductNotFound(
             ProductNotFoundException ex,
             HttpServletRequest request) {
 
-        ErrorResponseDto error = ErrorResponseDto.builder()
-                .error("Product Not Found")
-                .message(ex.getMessage())
-                .timestamp(LocalDateTime.now())
-                .path(request.getRequestURI())
-                .status(HttpStatus.NOT_FOUND.value())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        ErrorHandledEvent event = beginEvent();
+        return recorded(event, ex, request, fastError(productNotFound, ex.getMessage(), null, request));
     }
 
     /**
      * Trata exceções de validação
      */
     @ExceptionHandler(ValidationException.class)
-    public ResponseEntity<ErrorResponseDto> handleValidation(
+    public ResponseEntity<?> handleValidation(
             ValidationException ex,
             HttpServletRequest request) {
 
-        ErrorResponseDto error = ErrorResponseDto.builder()
-                .error("Validation Failed")
-                .message(ex.getMessage())
-                .timestamp(LocalDateTime.now())
-                .path(request.getRequestURI())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .details(ex.getValidationErrors())
-                .build();
+        ErrorHandledEvent event = beginEvent();
+        return recorded(event, ex, request,
+                fastError(validationFailed, ex.getMessage(), ex.getValidationErrors(), request));
+    }
+
+    /**
+     * Trata parâmetro obrigatório ausente na query string (ex.: GET /products/similar sem id)
+     */
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<?> handleMissingParameter(
+            MissingServletRequestParameterException ex,
+            HttpServletRequest request) {
+
+        ErrorHandledEvent event = beginEvent();
+        return recorded(event, ex, request, fastError(badRequest,
+                "Required parameter '" + ex.getParameterName() + "' is missing", null, request));
+    }
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    /**
+     * Trata parâmetro ou variável de caminho com tipo inválido (ex.: /products/abc)
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<?> handleTypeMismatch(
+            MethodArgumentTypeMismatchException ex,
+            HttpServletRequest request) {
+
+        ErrorHandledEvent event = beginEvent();
+        String type = ex.getRequiredType() != null ? ex.getRequiredType().getSimpleName() : "the expected type";
+        return recorded(event, ex, request, fastError(badRequest,
+                "Parameter '" + ex.getName() + "' must be of type " + type, null, request));
+    }
+
+    /**
+     * Trata Accept sem nenhum formato que o endpoint produza; o corpo sai em JSON
+     * com o Content-Type já definido, sem nova negociação
+     */
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResponseEntity<byte[]> handleNotAcceptable(
+            HttpMediaTypeNotAcceptableException ex,
+            HttpServletRequest request) {
+
+        ErrorHandledEvent event = beginEvent();
+        return recorded(event, ex, request, jsonError(notAcceptable,
+                "Acceptable representations: " + ex.getSupportedMediaTypes(), null, request));
+    }
+
+    // Corpo pré-serializado em JSON; quem negocia CBOR/Smile recebe o DTO pelo conversor do formato
+    private static ResponseEntity<?> fastError(ErrorBodies.Template template, String message,
+                                               List<String> details, HttpServletRequest request) {
+        if (prefersBinary(request.getHeader(HttpHeaders.ACCEPT))) {
+            ErrorResponseDto error = ErrorResponseDto.builder()
+                    .error(template.error())
+                    .message(message)
+                    .timestamp(LocalDateTime.now())
+                    .path(request.getRequestURI())
+                    .status(template.status().value())
+                    .details(details)
+                    .build();
+            return ResponseEntity.status(template.status()).body(error);
+        }
+        return jsonError(template, message, details, request);
+    }
+
+    private static ResponseEntity<byte[]> jsonError(ErrorBodies.Template template, String message,
+                                                    List<String> details, HttpServletRequest request) {
+        return ResponseEntity.status(template.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(template.write(message, details, request.getRequestURI()));
+    }
+
+    // Só analisa o Accept quando ele cita um formato binário; o caso comum não aloca nada
+    private static boolean prefersBinary(String accept) {
+        if (accept == null || (!accept.contains("cbor") && !accept.contains("smile"))) {
+            return false;
+        }
+        try {
+            MediaType preferred = null;
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                if (preferred == null || type.getQualityValue() > preferred.getQualityValue()) {
+                    preferred = type;
+                }
+            }
+            return preferred != null && (CBOR.isCompatibleWith(preferred) || SMILE.isCompatibleWith(preferred))
+                    && !preferred.isWildcardType() && !preferred.isWildcardSubtype();
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
     }
 
     /**
@@ -85,6 +187,8 @@ public class GlobalExceptionHandler {
             MethodArgumentNotValidException ex,
             HttpServletRequest request) {
 
+        ErrorHandledEvent event = beginEvent();
+
         List<String> errors = new ArrayList<>();
         ex.getBindingResult().getFieldErrors().forEach(error ->
                 errors.add(error.getField() + ": " + error.getDefaultMessage())
@@ -99,7 +203,7 @@ public class GlobalExceptionHandler {
                 .details(errors)
                 .build();
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        return recorded(event, ex, request, ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
     }
 
     /**
@@ -110,6 +214,8 @@ public class GlobalExceptionHandler {
             HttpMessageNotReadableException ex,
             HttpServletRequest request) {
 
+        ErrorHandledEvent event = beginEvent();
+
         ErrorResponseDto error = ErrorResponseDto.builder()
                 .error("Bad Request")
                 .message("Malformed JSON request")
@@ -118,7 +224,7 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.BAD_REQUEST.value())
                 .build();
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        return recorded(event, ex, request, ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
     }
 
     /**
@@ -129,6 +235,8 @@ public class GlobalExceptionHandler {
             HttpRequestMethodNotSupportedException ex,
             HttpServletRequest request) {
 
+        ErrorHandledEvent event = beginEvent();
+
         ErrorResponseDto error = ErrorResponseDto.builder()
                 .error("Method Not Allowed")
                 .message("HTTP method " + ex.getMethod() + " is not supported for this endpoint")
@@ -137,7 +245,7 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.METHOD_NOT_ALLOWED.value())
                 .build();
 
-        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(error);
+        return recorded(event, ex, request, ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(error));
     }
 
     /**
@@ -148,8 +256,10 @@ public class GlobalExceptionHandler {
             Exception ex,
             HttpServletRequest request) {
 
-        // Log da exceção para debug (não expor ao cliente)
-        ex.printStackTrace();
+        ErrorHandledEvent event = beginEvent();
+
+        // Log da exceção para debug (não expor ao cliente); trace completo só por amostragem
+        logUnexpected(ex, request);
 
         ErrorResponseDto error = ErrorResponseDto.builder()
                 .error("Internal Server Error")
@@ -159,7 +269,7 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
                 .build();
 
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        return recorded(event, ex, request, ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error));
     }
 
     /**
@@ -170,6 +280,10 @@ public class GlobalExceptionHandler {
             RuntimeException ex,
             HttpServletRequest request) {
 
+        ErrorHandledEvent event = beginEvent();
+
+        logUnexpected(ex, request);
+
         ErrorResponseDto error = ErrorResponseDto.builder()
                 .error("Runtime Error")
                 .message("A runtime error occurred: " + ex.getMessage())
@@ -178,6 +292,30 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
                 .build();
 
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        return recorded(event, ex, request, ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error));
+    }
+
+    private static ErrorHandledEvent beginEvent() {
+        ErrorHandledEvent event = new ErrorHandledEvent();
+        event.begin();
+        return event;
+    }
+
+    // Corpos em byte[] já estão prontos; os DTOs só são serializados depois, pelo Spring
+    private static <T> ResponseEntity<T> recorded(ErrorHandledEvent event, Exception ex, HttpServletRequest request,
+                                                  ResponseEntity<T> response) {
+        if (event.shouldCommit()) {
+            event.exceptionType = ex.getClass();
+            event.route = request.getRequestURI();
+            event.status = response.getStatusCode().value();
+            event.payloadSize = response.getBody() instanceof byte[] body ? body.length : 0;
+            event.commit();
+        }
+        return response;
+    }
+
+    // Erros inesperados são raros e precisam do trace completo: nunca entram na amostragem
+    private static void logUnexpected(Exception ex, HttpServletRequest request) {
+        log.error("Erro inesperado em {}", request.getRequestURI(), ex);
     }
 }
@@ -8,6 +8,9 @@ package br.com.salazar.exception;
  * - Produto foi removido do catálogo
  * - ID fornecido é inválido
  *
+ * É uma resposta esperada: o stack trace só é capturado por amostragem
+ * (ver {@link ErrorTraceSampling}).
+ *
  * @author Gabriel Salazar
  * @version 1.0
  * @since 2025-09-01
@@ -20,7 +23,7 @@ public class ProductNotFoundException extends RuntimeException {
      * @param message Mensagem específica sobre o produto não encontrado
      */
     public ProductNotFoundException(String message) {
-        super(message);
+        super(message, null, false, ErrorTraceSampling.capture(ProductNotFoundException.class));
     }
 
     /**
@@ -30,7 +33,7 @@ public class ProductNotFoundException extends RuntimeException {
      * @param cause Exceção que causou este erro
      */
     public ProductNotFoundException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, ErrorTraceSampling.capture(ProductNotFoundException.class));
     }
 
     /**
@@ -39,7 +42,7 @@ public class ProductNotFoundException extends RuntimeException {
      * @param productId ID do produto que não foi encontrado
      */
     public ProductNotFoundException(Long productId) {
-        super("Product not found with id: " + productId);
+        this("Product not found with id: " + productId);
     }
 
     /**
@@ -11,6 +11,9 @@ import java.util.List;
  * - Regras de negócio são violadas
  * - Validação de entrada falha
  *
+ * É uma resposta esperada: o stack trace só é capturado por amostragem
+ * (ver {@link ErrorTraceSampling}).
+ *
  * @author Gabriel Salazar
  * @version 1.0
  * @since 2025-09-01
@@ -25,7 +28,7 @@ public class ValidationException extends RuntimeException {
      * @param message Mensagem do erro de validação
      */
     public ValidationException(String message) {
-        super(message);
+        super(message, null, false, ErrorTraceSampling.capture(ValidationException.class));
     }
 
     /**
@@ -35,7 +38,7 @@ public class ValidationException extends RuntimeException {
      * @param cause Exceção que causou este erro
      */
     public ValidationException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, ErrorTraceSampling.capture(ValidationException.class));
     }
 
     /**
@@ -45,7 +48,7 @@ public class ValidationException extends RuntimeException {
      * @param validationErrors Lista detalhada dos erros
      */
     public ValidationException(String message, List<String> validationErrors) {
-        super(message);
+        this(message);
         this.validationErrors = validationErrors;
     }
 
@@ -0,0 +1,73 @@
+package br.com.salazar.model.dto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class EndpointCostDto {
+
+    @JsonProperty("endpoint")
+    private String endpoint;
+
+    @JsonProperty("requests")
+    private Long requests;
+
+    @JsonProperty("allocatedBytes")
+    private Long allocatedBytes;
+
+    @JsonProperty("allocatedBytesPerRequest")
+    private Long allocatedBytesPerRequest;
+
+    @JsonProperty("cpuMs")
+    private Double cpuMs;
+
+    @JsonProperty("cpuMicrosPerRequest")
+    private Double cpuMicrosPerRequest;
+
+    public EndpointCostDto() {}
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public Long getRequests() {
+        return requests;
+    }
+
+    public void setRequests(Long requests) {
+        this.requests = requests;
+    }
+
+    public Long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public void setAllocatedBytes(Long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public Long getAllocatedBytesPerRequest() {
+        return allocatedBytesPerRequest;
+    }
+
+    public void setAllocatedBytesPerRequest(Long allocatedBytesPerRequest) {
+        this.allocatedBytesPerRequest = allocatedBytesPerRequest;
+    }
+
+    public Double getCpuMs() {
+        return cpuMs;
+    }
+
+    public void setCpuMs(Double cpuMs) {
+        this.cpuMs = cpuMs;
+    }
+
+    public Double getCpuMicrosPerRequest() {
+        return cpuMicrosPerRequest;
+    }
+
+    public void setCpuMicrosPerRequest(Double cpuMicrosPerRequest) {
+        this.cpuMicrosPerRequest = cpuMicrosPerRequest;
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.salazar.model.dto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public class EndpointCostsResponseDto {
+
+    // Indica se a JVM mede alocação e CPU por thread; sem suporte os valores ficam zerados
+    @JsonProperty("allocationSupported")
+    private Boolean allocationSupported;
+
+    @JsonProperty("cpuSupported")
+    private Boolean cpuSupported;
+
+    @JsonProperty("endpoints")
+    private List<EndpointCostDto> endpoints;
+
+    public EndpointCostsResponseDto() {}
+
+    public Boolean getAllocationSupported() {
+        return allocationSupported;
+    }
+
+    public void setAllocationSupported(Boolean allocationSupported) {
+        this.allocationSupported = allocationSupported;
+    }
+
+    public Boolean getCpuSupported() {
+        return cpuSupported;
+    }
+
+    public void setCpuSupported(Boolean cpuSupported) {
+        this.cpuSupported = cpuSupported;
+    }
+
+    public List<EndpointCostDto> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(List<EndpointCostDto> endpoints) {
+        this.endpoints = endpoints;
+    }
+}
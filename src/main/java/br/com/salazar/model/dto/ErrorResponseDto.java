@@ -1,16 +1,38 @@
 package br.com.salazar.model.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public class ErrorResponseDto {
 
     @JsonProperty("name")
     private String name;
 
+    @JsonProperty("error")
+    private String error;
+
     @JsonProperty("message")
     private String message;
 
+    @JsonProperty("status")
+    private Integer status;
+
+    @JsonProperty("path")
+    private String path;
+
+    @JsonProperty("timestamp")
+    private LocalDateTime timestamp;
+
+    @JsonProperty("details")
+    private List<String> details;
+
     public ErrorResponseDto() {}
 
+    public static Builder builder() {
+        return new Builder();
+    }
+
     public String getName() {
         return name;
     }
@@ -19,6 +41,14 @@ public class ErrorResponseDto {
         this.name = name;
     }
 
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
     public String getMessage() {
         return message;
     }
@@ -26,5 +56,74 @@ public class ErrorResponseDto {
     public void setMessage(String message) {
         this.message = message;
     }
-}
 
+    public Integer getStatus() {
+        return status;
+    }
+
+    public void setStatus(Integer status) {
+        this.status = status;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public List<String> getDetails() {
+        return details;
+    }
+
+    public void setDetails(List<String> details) {
+        this.details = details;
+    }
+
+    public static class Builder {
+        private final ErrorResponseDto dto = new ErrorResponseDto();
+
+        public Builder error(String error) {
+            dto.setError(error);
+            return this;
+        }
+
+        public Builder message(String message) {
+            dto.setMessage(message);
+            return this;
+        }
+
+        public Builder status(int status) {
+            dto.setStatus(status);
+            return this;
+        }
+
+        public Builder path(String path) {
+            dto.setPath(path);
+            return this;
+        }
+
+        public Builder timestamp(LocalDateTime timestamp) {
+            dto.setTimestamp(timestamp);
+            return this;
+        }
+
+        public Builder details(List<String> details) {
+            dto.setDetails(details);
+            return this;
+        }
+
+        public ErrorResponseDto build() {
+            return dto;
+        }
+    }
+}
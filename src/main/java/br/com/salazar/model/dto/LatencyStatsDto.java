@@ -0,0 +1,73 @@
+package br.com.salazar.model.dto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class LatencyStatsDto {
+
+    @JsonProperty("count")
+    private Long count;
+
+    @JsonProperty("meanMs")
+    private Double meanMs;
+
+    @JsonProperty("p50Ms")
+    private Double p50Ms;
+
+    @JsonProperty("p99Ms")
+    private Double p99Ms;
+
+    @JsonProperty("p999Ms")
+    private Double p999Ms;
+
+    @JsonProperty("maxMs")
+    private Double maxMs;
+
+    public LatencyStatsDto() {}
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+
+    public Double getMeanMs() {
+        return meanMs;
+    }
+
+    public void setMeanMs(Double meanMs) {
+        this.meanMs = meanMs;
+    }
+
+    public Double getP50Ms() {
+        return p50Ms;
+    }
+
+    public void setP50Ms(Double p50Ms) {
+        this.p50Ms = p50Ms;
+    }
+
+    public Double getP99Ms() {
+        return p99Ms;
+    }
+
+    public void setP99Ms(Double p99Ms) {
+        this.p99Ms = p99Ms;
+    }
+
+    public Double getP999Ms() {
+        return p999Ms;
+    }
+
+    public void setP999Ms(Double p999Ms) {
+        this.p999Ms = p999Ms;
+    }
+
+    public Double getMaxMs() {
+        return maxMs;
+    }
+
+    public void setMaxMs(Double maxMs) {
+        this.maxMs = maxMs;
+    }
+}
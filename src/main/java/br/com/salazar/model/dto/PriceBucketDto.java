@@ -0,0 +1,47 @@
+package br.com.salazar.model.dto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class PriceBucketDto {
+
+    @JsonProperty("from")
+    private Double from;
+
+    // null na última faixa, que acumula os preços acima do limite
+    @JsonProperty("to")
+    private Double to;
+
+    @JsonProperty("count")
+    private Long count;
+
+    public PriceBucketDto() {}
+
+    public PriceBucketDto(Double from, Double to, Long count) {
+        this.from = from;
+        this.to = to;
+        this.count = count;
+    }
+
+    public Double getFrom() {
+        return from;
+    }
+
+    public void setFrom(Double from) {
+        this.from = from;
+    }
+
+    public Double getTo() {
+        return to;
+    }
+
+    public void setTo(Double to) {
+        this.to = to;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+}
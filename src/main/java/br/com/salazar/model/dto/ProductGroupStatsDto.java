@@ -0,0 +1,73 @@
+package br.com.salazar.model.dto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class ProductGroupStatsDto {
+
+    @JsonProperty("count")
+    private Long count;
+
+    @JsonProperty("minPrice")
+    private Double minPrice;
+
+    @JsonProperty("avgPrice")
+    private Double avgPrice;
+
+    @JsonProperty("maxPrice")
+    private Double maxPrice;
+
+    @JsonProperty("avgRating")
+    private Double avgRating;
+
+    @JsonProperty("totalStock")
+    private Long totalStock;
+
+    public ProductGroupStatsDto() {}
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+
+    public Double getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(Double minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public Double getAvgPrice() {
+        return avgPrice;
+    }
+
+    public void setAvgPrice(Double avgPrice) {
+        this.avgPrice = avgPrice;
+    }
+
+    public Double getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(Double maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public Double getAvgRating() {
+        return avgRating;
+    }
+
+    public void setAvgRating(Double avgRating) {
+        this.avgRating = avgRating;
+    }
+
+    public Long getTotalStock() {
+        return totalStock;
+    }
+
+    public void setTotalStock(Long totalStock) {
+        this.totalStock = totalStock;
+    }
+}
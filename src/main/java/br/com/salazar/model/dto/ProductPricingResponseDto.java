@@ -0,0 +1,63 @@
+package br.com.salazar.model.dto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public class ProductPricingResponseDto {
+
+    @JsonProperty("pricedProducts")
+    private Long pricedProducts;
+
+    @JsonProperty("inventoryValue")
+    private Double inventoryValue;
+
+    @JsonProperty("discountedInventoryValue")
+    private Double discountedInventoryValue;
+
+    @JsonProperty("avgFinalPrice")
+    private Double avgFinalPrice;
+
+    @JsonProperty("finalPriceHistogram")
+    private List<PriceBucketDto> finalPriceHistogram;
+
+    public ProductPricingResponseDto() {}
+
+    public Long getPricedProducts() {
+        return pricedProducts;
+    }
+
+    public void setPricedProducts(Long pricedProducts) {
+        this.pricedProducts = pricedProducts;
+    }
+
+    public Double getInventoryValue() {
+        return inventoryValue;
+    }
+
+    public void setInventoryValue(Double inventoryValue) {
+        this.inventoryValue = inventoryValue;
+    }
+
+    public Double getDiscountedInventoryValue() {
+        return discountedInventoryValue;
+    }
+
+    public void setDiscountedInventoryValue(Double discountedInventoryValue) {
+        this.discountedInventoryValue = discountedInventoryValue;
+    }
+
+    public Double getAvgFinalPrice() {
+        return avgFinalPrice;
+    }
+
+    public void setAvgFinalPrice(Double avgFinalPrice) {
+        this.avgFinalPrice = avgFinalPrice;
+    }
+
+    public List<PriceBucketDto> getFinalPriceHistogram() {
+        return finalPriceHistogram;
+    }
+
+    public void setFinalPriceHistogram(List<PriceBucketDto> finalPriceHistogram) {
+        this.finalPriceHistogram = finalPriceHistogram;
+    }
+}
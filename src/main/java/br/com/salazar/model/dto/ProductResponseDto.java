@@ -1,10 +1,18 @@
 package br.com.salazar.model.dto;
 
+import br.com.salazar.model.money.MoneyDeserializer;
+import br.com.salazar.model.money.MoneySerializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 public class ProductResponseDto {
 
     private Long id;
     private String title;
-    private Double price;
+    // Preço em centavos (ver Money), lido direto do token JSON
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private Long price;
     private Integer stock;
     private Double rating;
     private String thumbnail;
@@ -64,11 +72,11 @@ public class ProductResponseDto {
         this.stock = stock;
     }
 
-    public Double getPrice() {
+    public Long getPrice() {
         return price;
     }
 
-    public void setPrice(Double price) {
+    public void setPrice(Long price) {
         this.price = price;
     }
 
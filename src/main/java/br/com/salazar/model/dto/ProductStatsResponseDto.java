@@ -0,0 +1,41 @@
+package br.com.salazar.model.dto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+
+public class ProductStatsResponseDto {
+
+    @JsonProperty("overall")
+    private ProductGroupStatsDto overall;
+
+    @JsonProperty("categories")
+    private Map<String, ProductGroupStatsDto> categories;
+
+    @JsonProperty("brands")
+    private Map<String, ProductGroupStatsDto> brands;
+
+    public ProductStatsResponseDto() {}
+
+    public ProductGroupStatsDto getOverall() {
+        return overall;
+    }
+
+    public void setOverall(ProductGroupStatsDto overall) {
+        this.overall = overall;
+    }
+
+    public Map<String, ProductGroupStatsDto> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(Map<String, ProductGroupStatsDto> categories) {
+        this.categories = categories;
+    }
+
+    public Map<String, ProductGroupStatsDto> getBrands() {
+        return brands;
+    }
+
+    public void setBrands(Map<String, ProductGroupStatsDto> brands) {
+        this.brands = brands;
+    }
+}
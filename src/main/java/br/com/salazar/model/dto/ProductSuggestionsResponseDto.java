@@ -0,0 +1,35 @@
+package br.com.salazar.model.dto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public class ProductSuggestionsResponseDto {
+
+    @JsonProperty("prefix")
+    private String prefix;
+
+    @JsonProperty("suggestions")
+    private List<String> suggestions;
+
+    public ProductSuggestionsResponseDto() {}
+
+    public ProductSuggestionsResponseDto(String prefix, List<String> suggestions) {
+        this.prefix = prefix;
+        this.suggestions = suggestions;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public List<String> getSuggestions() {
+        return suggestions;
+    }
+
+    public void setSuggestions(List<String> suggestions) {
+        this.suggestions = suggestions;
+    }
+}
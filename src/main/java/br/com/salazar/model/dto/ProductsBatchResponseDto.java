@@ -0,0 +1,47 @@
+package br.com.salazar.model.dto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public class ProductsBatchResponseDto {
+
+    @JsonProperty("products")
+    private List<ProductDto> products;
+
+    @JsonProperty("notFound")
+    private List<Long> notFound;
+
+    @JsonProperty("failed")
+    private List<Long> failed;
+
+    public ProductsBatchResponseDto() {}
+
+    public ProductsBatchResponseDto(List<ProductDto> products, List<Long> notFound, List<Long> failed) {
+        this.products = products;
+        this.notFound = notFound;
+        this.failed = failed;
+    }
+
+    public List<ProductDto> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductDto> products) {
+        this.products = products;
+    }
+
+    public List<Long> getNotFound() {
+        return notFound;
+    }
+
+    public void setNotFound(List<Long> notFound) {
+        this.notFound = notFound;
+    }
+
+    public List<Long> getFailed() {
+        return failed;
+    }
+
+    public void setFailed(List<Long> failed) {
+        this.failed = failed;
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.salazar.model.dto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+
+public class RefreshTokenRequestDto {
+
+    @NotBlank(message = "Refresh token é obrigatório")
+    @JsonProperty("refreshToken")
+    private String refreshToken;
+
+    // Validade do novo token em minutos (opcional; a API externa usa 60 por padrão)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("expiresInMins")
+    private Integer expiresInMins;
+
+    // Construtores
+    public RefreshTokenRequestDto() {}
+
+    public RefreshTokenRequestDto(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    // Getters e Setters
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public Integer getExpiresInMins() {
+        return expiresInMins;
+    }
+
+    public void setExpiresInMins(Integer expiresInMins) {
+        this.expiresInMins = expiresInMins;
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.salazar.model.dto;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class RefreshTokenResponseDto {
+
+    // A API externa responde "accessToken"; expomos "token" como no login
+    @JsonProperty("token")
+    @JsonAlias("accessToken")
+    private String token;
+
+    @JsonProperty("refreshToken")
+    private String refreshToken;
+
+    // Construtores
+    public RefreshTokenResponseDto() {}
+
+    public RefreshTokenResponseDto(String token, String refreshToken) {
+        this.token = token;
+        this.refreshToken = refreshToken;
+    }
+
+    // Getters e Setters
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
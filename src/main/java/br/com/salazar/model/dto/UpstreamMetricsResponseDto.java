@@ -0,0 +1,30 @@
+package br.com.salazar.model.dto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public class UpstreamMetricsResponseDto {
+
+    @JsonProperty("uptimeSeconds")
+    private Long uptimeSeconds;
+
+    @JsonProperty("routes")
+    private List<UpstreamRouteMetricsDto> routes;
+
+    public UpstreamMetricsResponseDto() {}
+
+    public Long getUptimeSeconds() {
+        return uptimeSeconds;
+    }
+
+    public void setUptimeSeconds(Long uptimeSeconds) {
+        this.uptimeSeconds = uptimeSeconds;
+    }
+
+    public List<UpstreamRouteMetricsDto> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<UpstreamRouteMetricsDto> routes) {
+        this.routes = routes;
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.salazar.model.dto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+
+public class UpstreamRouteMetricsDto {
+
+    @JsonProperty("route")
+    private String route;
+
+    @JsonProperty("inFlight")
+    private Long inFlight;
+
+    @JsonProperty("bytesReceived")
+    private Long bytesReceived;
+
+    // Latência até os cabeçalhos da resposta, por classe de status (2xx, 4xx, ...)
+    @JsonProperty("latency")
+    private Map<String, LatencyStatsDto> latency;
+
+    // Falhas sem resposta HTTP, por tipo de exceção
+    @JsonProperty("errors")
+    private Map<String, Long> errors;
+
+    public UpstreamRouteMetricsDto() {}
+
+    public String getRoute() {
+        return route;
+    }
+
+    public void setRoute(String route) {
+        this.route = route;
+    }
+
+    public Long getInFlight() {
+        return inFlight;
+    }
+
+    public void setInFlight(Long inFlight) {
+        this.inFlight = inFlight;
+    }
+
+    public Long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    public void setBytesReceived(Long bytesReceived) {
+        this.bytesReceived = bytesReceived;
+    }
+
+    public Map<String, LatencyStatsDto> getLatency() {
+        return latency;
+    }
+
+    public void setLatency(Map<String, LatencyStatsDto> latency) {
+        this.latency = latency;
+    }
+
+    public Map<String, Long> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<String, Long> errors) {
+        this.errors = errors;
+    }
+}
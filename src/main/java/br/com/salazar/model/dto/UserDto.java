@@ -1,8 +1,13 @@
 package br.com.salazar.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+
 public class UserDto {
     private Long id;
+    // A API externa envia camelCase; a resposta segue o SNAKE_CASE da aplicação
+    @JsonAlias("firstName")
     private String firstName;
+    @JsonAlias("lastName")
     private String lastName;
     private String email;
 
@@ -17,4 +22,4 @@ public class UserDto {
 
     public String getEmail() { return email; }
     public void setEmail(String email) { this.email = email; }
-}
\ No newline at end of file
+}
@@ -0,0 +1,226 @@
+package br.com.salazar.model.money;
+
+/**
+ * Valores monetários em ponto fixo: um long com a quantidade de unidades
+ * menores da moeda (centavos, com {@link #SCALE} casas decimais)
+ *
+ * A aritmética é exata (somas e multiplicações por quantidade em long, com
+ * verificação de overflow) e nenhum método aloca objetos: não há BigDecimal
+ * nem Double intermediários. A conversão de/para texto opera diretamente
+ * sobre arrays de char, como os buffers de token do Jackson.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class Money {
+
+    /** Casas decimais da moeda (a API externa usa USD) */
+    public static final int SCALE = 2;
+
+    /** Unidades menores por unidade da moeda */
+    public static final long MINOR_PER_UNIT = 100;
+
+    /** Tamanho máximo do texto gerado por {@link #write(long, char[], int)} */
+    public static final int MAX_CHARS = 21;
+
+    // Expoentes maiores em módulo são saturados: acima disso qualquer valor já
+    // estoura o long (positivo) ou arredonda para zero (negativo)
+    private static final int MAX_EXPONENT = 1000;
+
+    private Money() {
+    }
+
+    /**
+     * Converte um número decimal em texto para unidades menores
+     *
+     * Aceita o formato de número do JSON (sinal, fração e expoente). Dígitos
+     * além de {@link #SCALE} casas são arredondados para o par mais próximo
+     * (HALF_EVEN), como em BigDecimal.setScale. Valores pequenos demais para
+     * a escala (ex.: "1e-50") arredondam para zero.
+     *
+     * @throws NumberFormatException Se o texto não for um número
+     * @throws ArithmeticException Se o valor não couber em um long
+     */
+    public static long parse(char[] text, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        if (i < end && (text[i] == '-' || text[i] == '+')) {
+            negative = text[i] == '-';
+            i++;
+        }
+
+        // Dígitos significativos acumulados em 'digits' e posição do ponto decimal
+        long digits = 0;
+        int fractionDigits = 0;
+        boolean seenDigit = false;
+        boolean seenPoint = false;
+        // Primeiro dígito descartado e se há algo diferente de zero depois dele
+        int dropped = -1;
+        boolean stickyNonZero = false;
+        int ignoredIntegerDigits = 0;
+
+        for (; i < end; i++) {
+            char c = text[i];
+            if (c >= '0' && c <= '9') {
+                seenDigit = true;
+                int digit = c - '0';
+                if (dropped < 0 && (digits < Long.MAX_VALUE / 10
+                        || (digits == Long.MAX_VALUE / 10 && digit <= Long.MAX_VALUE % 10))) {
+                    digits = digits * 10 + digit;
+                    if (seenPoint) {
+                        fractionDigits++;
+                    }
+                } else if (dropped < 0) {
+                    dropped = digit;
+                    if (!seenPoint) {
+                        ignoredIntegerDigits++;
+                    }
+                } else {
+                    stickyNonZero |= digit != 0;
+                    if (!seenPoint) {
+                        ignoredIntegerDigits++;
+                    }
+                }
+            } else if (c == '.' && !seenPoint) {
+                seenPoint = true;
+            } else if (c == 'e' || c == 'E') {
+                break;
+            } else {
+                throw new NumberFormatException("Valor monetário inválido: " + new String(text, offset, length));
+            }
+        }
+        if (!seenDigit) {
+            throw new NumberFormatException("Valor monetário inválido: " + new String(text, offset, length));
+        }
+        if (ignoredIntegerDigits > 0) {
+            throw new ArithmeticException("Valor monetário fora do intervalo suportado");
+        }
+
+        int exponent = 0;
+        if (i < end) {
+            exponent = parseExponent(text, i + 1, end, offset, length);
+        }
+
+        // Ajusta para exatamente SCALE casas decimais
+        int shift = SCALE - fractionDigits + exponent;
+        long result = digits;
+        if (shift > 0) {
+            // Faltam casas e já houve dígitos descartados: o valor não cabe em um long
+            if (dropped >= 0) {
+                throw new ArithmeticException("Valor monetário fora do intervalo suportado");
+            }
+            for (int s = 0; s < shift; s++) {
+                result = Math.multiplyExact(result, 10L);
+            }
+        } else {
+            for (int s = 0; s < -shift; s++) {
+                long digit = result % 10;
+                result /= 10;
+                if (dropped >= 0) {
+                    stickyNonZero |= dropped != 0;
+                }
+                dropped = (int) digit;
+            }
+            if (dropped > 5 || (dropped == 5 && (stickyNonZero || (result & 1) == 1))) {
+                result = Math.addExact(result, 1L);
+            }
+        }
+        return negative ? -result : result;
+    }
+
+    private static int parseExponent(char[] text, int i, int end, int offset, int length) {
+        boolean negative = false;
+        if (i < end && (text[i] == '-' || text[i] == '+')) {
+            negative = text[i] == '-';
+            i++;
+        }
+        if (i >= end) {
+            throw new NumberFormatException("Valor monetário inválido: " + new String(text, offset, length));
+        }
+        int exponent = 0;
+        for (; i < end; i++) {
+            char c = text[i];
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Valor monetário inválido: " + new String(text, offset, length));
+            }
+            exponent = Math.min(exponent * 10 + (c - '0'), MAX_EXPONENT);
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    /**
+     * Atalho para textos fora de um buffer (ex.: parâmetros, testes)
+     */
+    public static long parse(String text) {
+        return parse(text.toCharArray(), 0, text.length());
+    }
+
+    /**
+     * Valor de um double arredondado para a unidade menor mais próxima (HALF_EVEN)
+     *
+     * Usado na borda com DTOs que ainda expõem preços como Double.
+     *
+     * @throws ArithmeticException Se o valor for NaN, infinito ou fora do intervalo
+     */
+    public static long fromDouble(double value) {
+        double scaled = Math.rint(value * MINOR_PER_UNIT);
+        if (Double.isNaN(scaled) || scaled >= 0x1p63 || scaled < -0x1p63) {
+            throw new ArithmeticException("Valor monetário fora do intervalo suportado: " + value);
+        }
+        return (long) scaled;
+    }
+
+    /**
+     * Double mais próximo do valor (exato para até 2^53 unidades menores)
+     */
+    public static double toDouble(long minor) {
+        return minor / (double) MINOR_PER_UNIT;
+    }
+
+    /**
+     * Valor multiplicado por uma quantidade (ex.: preço * estoque)
+     */
+    public static long times(long minor, long quantity) {
+        return Math.multiplyExact(minor, quantity);
+    }
+
+    /**
+     * Escreve o valor em notação decimal ("-1234.50") a partir da posição informada
+     *
+     * @param buffer Buffer com pelo menos {@link #MAX_CHARS} posições livres
+     * @return Quantidade de caracteres escritos
+     */
+    public static int write(long minor, char[] buffer, int offset) {
+        // Trabalha com o valor negativo para cobrir Long.MIN_VALUE
+        boolean negative = minor < 0;
+        long remaining = negative ? minor : -minor;
+        int end = offset + MAX_CHARS;
+        int pos = end;
+        for (int d = 0; d < SCALE; d++) {
+            buffer[--pos] = (char) ('0' - (remaining % 10));
+            remaining /= 10;
+        }
+        buffer[--pos] = '.';
+        do {
+            buffer[--pos] = (char) ('0' - (remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        if (negative) {
+            buffer[--pos] = '-';
+        }
+        int length = end - pos;
+        System.arraycopy(buffer, pos, buffer, offset, length);
+        return length;
+    }
+
+    /**
+     * Texto decimal do valor (aloca a String; use {@link #write} no caminho quente)
+     */
+    public static String toString(long minor) {
+        char[] buffer = new char[MAX_CHARS];
+        int length = write(minor, buffer, 0);
+        return new String(buffer, 0, length);
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.salazar.model.money;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Lê um valor monetário do JSON direto para unidades menores ({@link Money})
+ *
+ * O número é convertido a partir do buffer de caracteres do próprio token,
+ * sem passar por Double ou BigDecimal, então "12.99" vira exatamente 1299.
+ * Também aceita o número entre aspas.
+ *
+ * O contrato do Jackson devolve Object, então o resultado é um Long boxed:
+ * fora do cache de Long.valueOf (-128 a 127) cada preço lido custa uma
+ * alocação de 16 bytes. A conversão em si não aloca nada.
+ */
+public class MoneyDeserializer extends StdDeserializer<Long> {
+
+    public MoneyDeserializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT
+                && token != JsonToken.VALUE_STRING) {
+            return (Long) context.handleUnexpectedToken(Long.class, parser);
+        }
+        try {
+            return Money.parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (NumberFormatException | ArithmeticException e) {
+            return (Long) context.handleWeirdStringValue(Long.class, parser.getText(), e.getMessage());
+        }
+    }
+}
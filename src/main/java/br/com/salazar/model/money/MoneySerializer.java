@@ -0,0 +1,29 @@
+package br.com.salazar.model.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Escreve unidades menores ({@link Money}) como número decimal ("12.99")
+ *
+ * O texto é montado em um buffer por thread e copiado pelo gerador, sem
+ * BigDecimal nem String intermediária.
+ */
+public class MoneySerializer extends StdSerializer<Long> {
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[Money.MAX_CHARS]);
+
+    public MoneySerializer() {
+        super(Long.class);
+    }
+
+    @Override
+    public void serialize(Long value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        char[] buffer = BUFFER.get();
+        int length = Money.write(value, buffer, 0);
+        generator.writeNumber(buffer, 0, length);
+    }
+}
@@ -1,11 +1,15 @@
 package br.com.salazar.service;
 
+import br.com.salazar.exception.AuthenticationException;
 import br.com.salazar.model.dto.LoginRequestDto;
 import br.com.salazar.model.dto.LoginResponseDto;
+import br.com.salazar.model.dto.RefreshTokenRequestDto;
+import br.com.salazar.model.dto.RefreshTokenResponseDto;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,7 +40,7 @@ public class AuthService {
         HttpEntity<LoginRequestDto> request = new HttpEntity<>(loginRequest, headers);
 
         try {
-            logger.info("Tentando autenticar usuário: {}", loginRequest.getUsername());
+            logger.debug("Tentando autenticar usuário: {}", loginRequest.getUsername());
 
             // Fazer a requisição para a API externa
             ResponseEntity<LoginResponseDto> response = restTemplate.exchange(
@@ -47,17 +51,60 @@ public class AuthService {
             );
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                logger.info("Autenticação bem-sucedida para usuário: {}", loginRequest.getUsername());
+                logger.debug("Autenticação bem-sucedida para usuário: {}", loginRequest.getUsername());
                 return response.getBody();
             } else {
                 logger.warn("Resposta inesperada da API de autenticação");
                 throw new RuntimeException("Falha na autenticação");
             }
 
+        } catch (HttpClientErrorException e) {
+            logger.warn("Login recusado pela API externa para o usuário {}: HTTP {}",
+                    loginRequest.getUsername(), e.getStatusCode().value());
+            if (e.getStatusCode() == HttpStatus.BAD_REQUEST || e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
+                throw new AuthenticationException("Invalid credentials", e);
+            }
+            throw e;
         } catch (Exception e) {
             logger.error("Erro durante a autenticação do usuário {}: {}",
                     loginRequest.getUsername(), e.getMessage());
             throw new RuntimeException("Credenciais inválidas", e);
         }
     }
+
+    /**
+     * Troca um refresh token por um novo par de tokens na API externa
+     *
+     * @throws AuthenticationException Se o refresh token for recusado pela API externa
+     */
+    public RefreshTokenResponseDto refresh(String refreshToken) {
+        String url = baseUrl + "/auth/refresh";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<RefreshTokenRequestDto> request = new HttpEntity<>(new RefreshTokenRequestDto(refreshToken), headers);
+
+        try {
+            ResponseEntity<RefreshTokenResponseDto> response = restTemplate.exchange(
+                    url,
+                    HttpMethod.POST,
+                    request,
+                    RefreshTokenResponseDto.class
+            );
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null
+                    && response.getBody().getToken() != null) {
+                return response.getBody();
+            }
+            logger.warn("Resposta inesperada da API ao renovar token");
+            throw new RuntimeException("Falha ao renovar token");
+
+        } catch (HttpClientErrorException e) {
+            logger.warn("Refresh token recusado pela API externa: HTTP {}", e.getStatusCode().value());
+            if (e.getStatusCode() == HttpStatus.UNAUTHORIZED || e.getStatusCode() == HttpStatus.FORBIDDEN) {
+                throw new AuthenticationException("Invalid or expired refresh token", e);
+            }
+            throw e;
+        }
+    }
 }
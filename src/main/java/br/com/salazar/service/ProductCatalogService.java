@@ -0,0 +1,379 @@
+package br.com.salazar.service;
+
+import br.com.salazar.exception.ProductNotFoundException;
+import br.com.salazar.exception.ValidationException;
+import br.com.salazar.model.dto.PriceBucketDto;
+import br.com.salazar.model.dto.ProductDto;
+import br.com.salazar.model.dto.ProductPricingResponseDto;
+import br.com.salazar.model.dto.ProductStatsResponseDto;
+import br.com.salazar.model.dto.ProductsResponseDto;
+import br.com.salazar.service.catalog.CatalogColumns;
+import br.com.salazar.service.catalog.CatalogSnapshot;
+import br.com.salazar.service.catalog.CatalogStats;
+import br.com.salazar.service.catalog.CompactProduct;
+import br.com.salazar.service.catalog.PriceKernels;
+import br.com.salazar.service.jfr.CacheEvent;
+import br.com.salazar.service.upstream.JsonPageReader;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Mantém em memória um snapshot do catálogo completo da API externa
+ *
+ * O snapshot é carregado na primeira utilização e atualizado periodicamente
+ * em segundo plano. Consultas de leitura (autocomplete, índices, agregados)
+ * são servidas localmente a partir dele.
+ */
+@Service
+public class ProductCatalogService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCatalogService.class);
+
+    private static final String CACHE_NAME = "catalog";
+
+    @Value("${app.dummyjson.base-url:https://dummyjson.com}")
+    private String baseUrl;
+
+    @Value("${app.catalog.suggest-size:10}")
+    private int suggestSize = 10;
+
+    static final int MAX_FILTER_LIMIT = 100;
+    static final int MAX_SIMILAR = 100;
+    static final int MAX_PRICE_BUCKETS = 1000;
+    /** Categorias e marcas distintas guardadas dos produtos criados; as demais vão para "other" */
+    static final int MAX_CREATED_GROUPS = 200;
+
+    /** Quantidade de produtos escritos entre cada flush do stream NDJSON */
+    static final int STREAM_FLUSH_EVERY = 200;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter productWriter;
+    private final JsonPageReader pageReader;
+
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+
+    // Produtos criados via API; a API externa não os persiste, então nunca vêm nas
+    // recargas e são somados aos agregados de cada snapshot na leitura. A criação
+    // não exige token, então os grupos são limitados (ver MAX_CREATED_GROUPS)
+    private final CatalogStats created = new CatalogStats(MAX_CREATED_GROUPS);
+
+    public ProductCatalogService(RestTemplate restTemplate, ObjectMapper objectMapper, JsonPageReader pageReader) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.pageReader = pageReader;
+        // O flush é feito em blocos pelo próprio stream, não a cada produto
+        this.productWriter = objectMapper.writerFor(ProductDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        log.info("Cálculos de preço do catálogo usando kernels {}", PriceKernels.best().name());
+    }
+
+    /**
+     * Retorna o snapshot atual, carregando-o na primeira chamada
+     */
+    public CatalogSnapshot snapshot() {
+        CatalogSnapshot current = snapshot.get();
+        return current != null ? current : loadIfAbsent();
+    }
+
+    /**
+     * Produto do snapshot já carregado, sem disparar a carga do catálogo
+     *
+     * @return Produto em memória ou null se não estiver disponível
+     */
+    public ProductDto findCached(Long id) {
+        CacheEvent event = new CacheEvent();
+        event.begin();
+        CatalogSnapshot current = snapshot.get();
+        CompactProduct product = current != null ? current.findById(id) : null;
+        event.commit(CACHE_NAME, product != null ? CacheEvent.HIT : CacheEvent.MISS, 0);
+        return product != null ? product.toDto() : null;
+    }
+
+    /**
+     * Sugestões de títulos para o autocomplete, ordenadas por rating
+     */
+    public List<String> suggest(String prefix, int limit) {
+        return snapshot().getSuggestIndex().suggest(prefix, limit);
+    }
+
+    /**
+     * Busca aproximada por título e marca, tolerante a erros de digitação
+     */
+    public ProductsResponseDto search(String query, int limit) {
+        List<ProductDto> products = toDtos(snapshot().search(query, limit));
+
+        ProductsResponseDto response = new ProductsResponseDto();
+        response.setProducts(products);
+        response.setTotal(products.size());
+        response.setSkip(0);
+        response.setLimit(limit);
+        return response;
+    }
+
+    /**
+     * Recomendação de produtos similares por conteúdo, preço e rating
+     */
+    public ProductsResponseDto similar(Long id, int k) {
+        if (k < 1 || k > MAX_SIMILAR) {
+            throw ValidationException.outOfRange("k", 1, MAX_SIMILAR);
+        }
+        List<CompactProduct> similar = snapshot().similar(id, k);
+        if (similar == null) {
+            throw new ProductNotFoundException(id);
+        }
+        List<ProductDto> products = toDtos(similar);
+
+        ProductsResponseDto response = new ProductsResponseDto();
+        response.setProducts(products);
+        response.setTotal(products.size());
+        response.setSkip(0);
+        response.setLimit(k);
+        return response;
+    }
+
+    /**
+     * Filtro e ordenação sobre o catálogo inteiro, executados nas colunas primitivas
+     *
+     * @param category Categoria exata (sem diferenciar maiúsculas) ou null
+     * @param brand Marca exata (sem diferenciar maiúsculas) ou null
+     * @param sort price, rating, stock ou null para a ordem do catálogo
+     * @param order asc ou desc
+     * @return Página ordenada; total é a quantidade de produtos que atendem ao filtro
+     */
+    public ProductsResponseDto filter(String category, String brand, Double minPrice, Double maxPrice,
+                                      Double minRating, boolean inStockOnly, String sort, String order, int limit) {
+        if (limit < 1 || limit > MAX_FILTER_LIMIT) {
+            throw ValidationException.outOfRange("limit", 1, MAX_FILTER_LIMIT);
+        }
+        CatalogColumns.Sort sortBy = CatalogColumns.Sort.CATALOG;
+        if (sort != null && !sort.isBlank()) {
+            try {
+                sortBy = CatalogColumns.Sort.valueOf(sort.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw ValidationException.invalidFormat("sort", "price, rating or stock");
+            }
+        }
+        if (!"asc".equalsIgnoreCase(order) && !"desc".equalsIgnoreCase(order)) {
+            throw ValidationException.invalidFormat("order", "asc or desc");
+        }
+
+        CatalogSnapshot current = snapshot();
+        CatalogColumns.Result result = current.getColumns().query(new CatalogColumns.Query(
+                category, brand, valueOf(minPrice), valueOf(maxPrice), valueOf(minRating), inStockOnly,
+                sortBy, "desc".equalsIgnoreCase(order), limit));
+
+        List<ProductDto> products = new ArrayList<>(result.ordinals().length);
+        for (int ordinal : result.ordinals()) {
+            products.add(current.productAt(ordinal).toDto());
+        }
+        ProductsResponseDto response = new ProductsResponseDto();
+        response.setProducts(products);
+        response.setTotal(result.total());
+        response.setSkip(0);
+        response.setLimit(limit);
+        return response;
+    }
+
+    private static double valueOf(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    /**
+     * Valor de inventário (preço * estoque), com e sem desconto, e histograma de
+     * preços finais do catálogo inteiro, calculados sobre as colunas primitivas
+     *
+     * @param bucketWidth Largura de cada faixa do histograma
+     * @param buckets Quantidade de faixas; a última acumula os preços acima do limite
+     */
+    public ProductPricingResponseDto pricing(double bucketWidth, int buckets) {
+        if (!(bucketWidth > 0) || Double.isInfinite(bucketWidth)) {
+            throw ValidationException.invalidFormat("bucketWidth", "positive number");
+        }
+        if (buckets < 1 || buckets > MAX_PRICE_BUCKETS) {
+            throw ValidationException.outOfRange("buckets", 1, MAX_PRICE_BUCKETS);
+        }
+
+        CatalogColumns.Pricing pricing = snapshot().getColumns().pricing(bucketWidth, buckets);
+        PriceKernels.Totals totals = pricing.totals();
+
+        List<PriceBucketDto> histogram = new ArrayList<>(buckets);
+        for (int b = 0; b < buckets; b++) {
+            Double to = b < buckets - 1 ? (b + 1) * bucketWidth : null;
+            histogram.add(new PriceBucketDto(b * bucketWidth, to, pricing.histogram()[b]));
+        }
+
+        ProductPricingResponseDto response = new ProductPricingResponseDto();
+        response.setPricedProducts(totals.pricedCount());
+        response.setInventoryValue(totals.inventoryValue());
+        response.setDiscountedInventoryValue(totals.discountedInventoryValue());
+        if (totals.pricedCount() > 0) {
+            response.setAvgFinalPrice(totals.finalPriceSum() / totals.pricedCount());
+        }
+        response.setFinalPriceHistogram(histogram);
+        return response;
+    }
+
+    /**
+     * Agregados por categoria e marca, lidos dos acumuladores sem varrer o catálogo
+     *
+     * Soma os agregados do snapshot atual (calculados na carga, junto com ele) e
+     * os dos produtos criados desde o início da aplicação.
+     */
+    public ProductStatsResponseDto stats() {
+        CatalogStats current = snapshot().getStats().plus(created);
+
+        ProductStatsResponseDto response = new ProductStatsResponseDto();
+        response.setOverall(current.overall());
+        response.setCategories(current.categories());
+        response.setBrands(current.brands());
+        return response;
+    }
+
+    /**
+     * Registra um produto criado via API nos agregados
+     *
+     * Um preço que não cabe em centavos não derruba a criação, que já foi aceita
+     * pela API externa; o produto só fica fora dos agregados.
+     */
+    public void recordCreated(ProductDto product) {
+        if (product == null) {
+            return;
+        }
+        try {
+            created.add(CompactProduct.of(product));
+        } catch (ArithmeticException e) {
+            log.warn("Produto criado {} fora dos agregados: preço {} fora do intervalo suportado",
+                    product.getId(), product.getPrice());
+        }
+    }
+
+    /**
+     * Escreve o catálogo completo como NDJSON (um produto por linha)
+     *
+     * A resposta da API externa é lida token a token e cada produto é escrito
+     * assim que é lido, então nem a lista de produtos nem o corpo da resposta
+     * ficam inteiros em memória.
+     *
+     * @param out Stream de saída da resposta HTTP
+     * @return Quantidade de produtos escritos
+     */
+    public long streamCatalog(OutputStream out) {
+        long[] written = {0};
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.setRootValueSeparator(null);
+
+            forEachCatalogProduct(product -> {
+                productWriter.writeValue(generator, product);
+                generator.writeRaw('\n');
+                if (++written[0] % STREAM_FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            });
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao transmitir catálogo", e);
+        }
+        log.debug("Catálogo transmitido via stream: {} produtos", written[0]);
+        return written[0];
+    }
+
+    /**
+     * Atualização periódica; só recarrega catálogos que já foram usados
+     */
+    @Scheduled(initialDelayString = "${app.catalog.refresh-interval-ms:300000}",
+            fixedDelayString = "${app.catalog.refresh-interval-ms:300000}")
+    public void refresh() {
+        if (snapshot.get() == null) {
+            return;
+        }
+        try {
+            CacheEvent event = new CacheEvent();
+            event.begin();
+            CatalogSnapshot next = load();
+            publish(next);
+            event.commit(CACHE_NAME, CacheEvent.LOAD, next.size());
+        } catch (RestClientException e) {
+            // Mantém o snapshot anterior até a próxima tentativa
+            log.warn("Falha ao atualizar catálogo de produtos: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Substitui o snapshot atual (também usado por testes)
+     *
+     * Os agregados fazem parte do snapshot, então são trocados junto com ele.
+     */
+    public void publish(CatalogSnapshot next) {
+        snapshot.set(next);
+        log.debug("Catálogo de produtos atualizado: {} produtos", next.size());
+    }
+
+    // WAIT: outra requisição carregou o catálogo enquanto esta aguardava o lock
+    private CatalogSnapshot loadIfAbsent() {
+        CacheEvent event = new CacheEvent();
+        event.begin();
+        synchronized (this) {
+            CatalogSnapshot current = snapshot.get();
+            if (current != null) {
+                event.commit(CACHE_NAME, CacheEvent.WAIT, current.size());
+                return current;
+            }
+            current = load();
+            publish(current);
+            event.commit(CACHE_NAME, CacheEvent.LOAD, current.size());
+            return current;
+        }
+    }
+
+    // Cada ProductDto vai para as colunas assim que é lido e é descartado em
+    // seguida; o catálogo nunca fica inteiro como DTO em memória
+    private CatalogSnapshot load() {
+        CatalogColumns.Builder columns = CatalogColumns.builder();
+        forEachCatalogProduct(columns::add);
+        log.debug("Catálogo lido: {} produtos", columns.size());
+        return CatalogSnapshot.of(columns.build(), suggestSize);
+    }
+
+    private static List<ProductDto> toDtos(List<CompactProduct> products) {
+        List<ProductDto> dtos = new ArrayList<>(products.size());
+        for (CompactProduct product : products) {
+            dtos.add(product.toDto());
+        }
+        return dtos;
+    }
+
+    // limit=0 faz a API externa retornar o catálogo inteiro em uma única página,
+    // lida em streaming pelo JsonPageReader
+    private JsonPageReader.Page forEachCatalogProduct(JsonPageReader.ItemHandler<? super ProductDto> handler) {
+        String url = baseUrl + "/products?limit=0";
+
+        return restTemplate.execute(url, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> {
+                    if (!response.getStatusCode().is2xxSuccessful()) {
+                        throw new RuntimeException("Falha ao carregar catálogo (status: " + response.getStatusCode() + ")");
+                    }
+                    return pageReader.read(response.getBody(), "products", ProductDto.class, handler);
+                });
+    }
+}
@@ -1,17 +1,35 @@
 package br.com.salazar.service;
 
 import br.com.salazar.model.dto.*;
+import br.com.salazar.exception.ErrorTraceSampling;
 import br.com.salazar.exception.ProductNotFoundException;
 import br.com.salazar.exception.ValidationException;
+import br.com.salazar.model.money.Money;
+import br.com.salazar.service.auth.AuthenticatedProductsCache;
+import br.com.salazar.service.timing.RequestTiming;
+import br.com.salazar.service.timing.RequestTiming.Phase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 public class ProductService {
@@ -21,10 +39,24 @@ public class ProductService {
     @Value("${app.dummyjson.base-url:https://dummyjson.com}")
     private String baseUrl;
 
+    static final int MAX_BATCH_IDS = 100;
+
+    // Prazo total do lote; ids que não terminam a tempo voltam em 'failed'
+    @Value("${app.upstream.batch-timeout-ms:5000}")
+    private long batchTimeoutMillis;
+
     private final RestTemplate restTemplate;
+    private final ProductCatalogService catalog;
+    private final Executor batchLookupExecutor;
+    private final AuthenticatedProductsCache productsCache;
 
-    public ProductService(RestTemplate restTemplate) {
+    public ProductService(RestTemplate restTemplate, ProductCatalogService catalog,
+                          @Qualifier("batchLookupExecutor") Executor batchLookupExecutor,
+                          AuthenticatedProductsCache productsCache) {
         this.restTemplate = restTemplate;
+        this.catalog = catalog;
+        this.batchLookupExecutor = batchLookupExecutor;
+        this.productsCache = productsCache;
     }
 
     public ProductDto createProduct(ProductCreateRequestDto request) {
@@ -42,7 +74,11 @@ public class ProductService {
 
             if (response.getStatusCode() == HttpStatus.CREATED && response.getBody() != null) {
                 // CONVERSÃO: ProductResponseDto -> ProductDto
-                return convertToProductDto(response.getBody());
+                long mapping = RequestTiming.start();
+                ProductDto created = convertToProductDto(response.getBody());
+                RequestTiming.stop(Phase.MAPPING, mapping);
+                catalog.recordCreated(created);
+                return created;
             }
             throw new RuntimeException("Falha ao criar produto (status: " + response.getStatusCode() + ")");
 
@@ -57,6 +93,14 @@ public class ProductService {
     }
 
     public ProductsResponseDto getProducts(String bearerToken) {
+        // Token aceito recentemente pela API externa: a listagem é a mesma para todos
+        long lookup = RequestTiming.start();
+        ProductsResponseDto cached = productsCache.get(bearerToken);
+        RequestTiming.stop(Phase.CACHE, lookup);
+        if (cached != null) {
+            return cached;
+        }
+
         String url = baseUrl + "/auth/products";
 
         HttpHeaders headers = new HttpHeaders();
@@ -69,6 +113,7 @@ public class ProductService {
                     url, HttpMethod.GET, request, ProductsResponseDto.class);
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                productsCache.put(bearerToken, response.getBody());
                 return response.getBody();
             }
             throw new RuntimeException("Resposta inesperada da API de produtos");
@@ -77,6 +122,7 @@ public class ProductService {
             log.warn("Erro HTTP {} ao buscar produtos: {}", e.getStatusCode().value(), body);
 
             if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
+                productsCache.invalidate(bearerToken);
                 throw new UnauthorizedException(extractMessage(body, "Invalid/Expired Token!"));
             }
             if (e.getStatusCode() == HttpStatus.FORBIDDEN) {
@@ -131,21 +177,117 @@ public class ProductService {
         }
     }
 
+    /**
+     * Busca vários produtos de uma vez: acertos do catálogo em memória são
+     * servidos localmente e as faltas são buscadas em paralelo na API externa,
+     * no pool batchLookupExecutor (threads e fila limitados; ids recusados pela
+     * fila cheia voltam em 'failed')
+     *
+     * O lote inteiro tem um prazo único (app.upstream.batch-timeout-ms): quem
+     * não responder até lá é informado em 'failed', sem segurar a requisição
+     * pelo read timeout de cada chamada. Buscas ainda na fila são descartadas;
+     * as que já estão em andamento não são interrompidas e terminam no read
+     * timeout do RestTemplate, ocupando uma thread do pool de lotes até lá.
+     */
+    public ProductsBatchResponseDto getProductsByIds(List<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null) {
+                distinct.add(id);
+            }
+        }
+        if (distinct.isEmpty() || distinct.size() > MAX_BATCH_IDS) {
+            throw ValidationException.outOfRange("ids", 1, MAX_BATCH_IDS);
+        }
+
+        Map<Long, ProductDto> found = new HashMap<>();
+        Map<Long, CompletableFuture<ProductDto>> pending = new LinkedHashMap<>();
+        List<Long> notFound = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        List<Long> rejected = new ArrayList<>();
+        for (Long id : distinct) {
+            long lookup = RequestTiming.start();
+            ProductDto cached = catalog.findCached(id);
+            RequestTiming.stop(Phase.CACHE, lookup);
+            if (cached != null) {
+                found.put(id, cached);
+                continue;
+            }
+            try {
+                pending.put(id, CompletableFuture.supplyAsync(() -> getProductById(id), batchLookupExecutor));
+            } catch (RejectedExecutionException e) {
+                rejected.add(id);
+            }
+        }
+        if (!rejected.isEmpty()) {
+            log.warn("Fila de buscas em lote cheia; sem consulta: {}", rejected);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeoutMillis);
+        List<Long> timedOut = new ArrayList<>();
+        boolean interrupted = false;
+        for (Map.Entry<Long, CompletableFuture<ProductDto>> entry : pending.entrySet()) {
+            Long id = entry.getKey();
+            CompletableFuture<ProductDto> future = entry.getValue();
+            try {
+                // Depois do prazo só aproveita o que já terminou
+                long remaining = interrupted ? 0 : Math.max(deadline - System.nanoTime(), 0);
+                found.put(id, future.get(remaining, TimeUnit.NANOSECONDS));
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ProductNotFoundException) {
+                    notFound.add(id);
+                } else {
+                    log.warn("Erro ao buscar produto {} no lote: {}", id, e.getCause().getMessage());
+                    failed.add(id);
+                }
+            } catch (TimeoutException e) {
+                // Só impede buscas que ainda não começaram; não interrompe as em andamento
+                future.cancel(false);
+                timedOut.add(id);
+            } catch (InterruptedException e) {
+                interrupted = true;
+                future.cancel(false);
+                timedOut.add(id);
+            }
+        }
+        if (!timedOut.isEmpty()) {
+            log.warn("Lote de produtos excedeu o prazo de {} ms; sem resposta: {}", batchTimeoutMillis, timedOut);
+            failed.addAll(timedOut);
+        }
+        failed.addAll(rejected);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Mantém a ordem dos ids pedidos
+        long mapping = RequestTiming.start();
+        List<ProductDto> products = new ArrayList<>(found.size());
+        for (Long id : distinct) {
+            ProductDto product = found.get(id);
+            if (product != null) {
+                products.add(product);
+            }
+        }
+        ProductsBatchResponseDto response = new ProductsBatchResponseDto(products, notFound, failed);
+        RequestTiming.stop(Phase.MAPPING, mapping);
+        return response;
+    }
+
     // MÉTODO AUXILIAR: Converter ProductResponseDto para ProductDto
     private ProductDto convertToProductDto(ProductResponseDto responseDto) {
         ProductDto dto = new ProductDto();
         dto.setId(responseDto.getId());
-        dto.setName(responseDto.getTitle()); // Mapeamento: title -> name
+        dto.setTitle(responseDto.getTitle());
         dto.setDescription(responseDto.getDescription());
 
-        // Conversão de Double para BigDecimal
+        // Centavos -> Double só na borda da resposta
         if (responseDto.getPrice() != null) {
-            dto.setPrice(BigDecimal.valueOf(responseDto.getPrice()));
+            dto.setPrice(Money.toDouble(responseDto.getPrice()));
         }
 
         dto.setBrand(responseDto.getBrand());
         dto.setCategory(responseDto.getCategory());
-        dto.setStockQuantity(responseDto.getStock()); // Mapeamento: stock -> stockQuantity
+        dto.setStock(responseDto.getStock());
 
         return dto;
     }
@@ -154,7 +296,9 @@ public class ProductService {
         ProductResponseDto dto = new ProductResponseDto();
         dto.setTitle(request.getTitle());
         dto.setDescription(request.getDescription());
-        dto.setPrice(request.getPrice());
+        if (request.getPrice() != null) {
+            dto.setPrice(Money.fromDouble(request.getPrice()));
+        }
         dto.setDiscountPercentage(request.getDiscountPercentage());
         dto.setRating(request.getRating());
         dto.setStock(request.getStock());
@@ -181,11 +325,17 @@ public class ProductService {
         return defaultMsg;
     }
 
+    // Respostas esperadas da API externa: stack trace só por amostragem (ErrorTraceSampling)
     public static class UnauthorizedException extends RuntimeException {
-        public UnauthorizedException(String msg) { super(msg); }
+        public UnauthorizedException(String msg) { this(msg, ErrorTraceSampling.capture(UnauthorizedException.class)); }
+
+        /**
+         * @param captureTrace false para instâncias pré-alocadas e reutilizadas
+         */
+        public UnauthorizedException(String msg, boolean captureTrace) { super(msg, null, false, captureTrace); }
     }
 
     public static class ForbiddenException extends RuntimeException {
-        public ForbiddenException(String msg) { super(msg); }
+        public ForbiddenException(String msg) { super(msg, null, false, ErrorTraceSampling.capture(ForbiddenException.class)); }
     }
 }
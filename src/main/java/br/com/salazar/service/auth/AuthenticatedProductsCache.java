@@ -0,0 +1,122 @@
+package br.com.salazar.service.auth;
+
+import br.com.salazar.model.dto.ProductsResponseDto;
+import br.com.salazar.service.jfr.CacheEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cache da listagem autenticada de produtos (/auth/products)
+ *
+ * A resposta da API externa é a mesma para qualquer usuário; o que depende do
+ * token é apenas a autorização. Por isso há dois níveis:
+ * - Uma única resposta compartilhada, válida por alguns segundos
+ * - Entradas de verificação por token: um token aceito pela API externa fica
+ *   liberado por pouco tempo, nunca além do seu "exp"
+ *
+ * Só é servido localmente um token que a API externa aceitou recentemente;
+ * token desconhecido, com verificação vencida ou expirado segue para a API.
+ * As entradas por token ficam em uma tabela de tamanho fixo indexada pelo
+ * hash do token ({@link TokenKey}); colisões apenas substituem a entrada.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@Component
+public class AuthenticatedProductsCache {
+
+    private static final String CACHE_NAME = "auth-products";
+
+    private final JwtVerifier jwtVerifier;
+    private final long responseTtlMillis;
+    private final long verifiedTtlMillis;
+    private final Clock clock;
+    private final AtomicReferenceArray<Verified> verified;
+    private final int mask;
+
+    private volatile CachedResponse response;
+
+    @Autowired
+    public AuthenticatedProductsCache(JwtVerifier jwtVerifier,
+                                      @Value("${app.auth.products-cache.response-ttl-seconds:60}") long responseTtlSeconds,
+                                      @Value("${app.auth.products-cache.verified-ttl-seconds:30}") long verifiedTtlSeconds,
+                                      @Value("${app.auth.products-cache.max-tokens:4096}") int maxTokens) {
+        this(jwtVerifier, responseTtlSeconds, verifiedTtlSeconds, maxTokens, Clock.systemUTC());
+    }
+
+    public AuthenticatedProductsCache(JwtVerifier jwtVerifier, long responseTtlSeconds, long verifiedTtlSeconds,
+                                      int maxTokens, Clock clock) {
+        if (maxTokens < 1) {
+            throw new IllegalArgumentException("app.auth.products-cache.max-tokens deve ser positivo");
+        }
+        this.jwtVerifier = jwtVerifier;
+        this.responseTtlMillis = responseTtlSeconds * 1_000;
+        this.verifiedTtlMillis = verifiedTtlSeconds * 1_000;
+        this.clock = clock;
+        int capacity = Integer.highestOneBit(Math.max(1, maxTokens - 1)) << 1;
+        this.verified = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return Listagem em cache se o token foi aceito recentemente e a resposta ainda é válida; senão null
+     */
+    public ProductsResponseDto get(String token) {
+        CacheEvent event = new CacheEvent();
+        event.begin();
+        ProductsResponseDto body = lookup(token);
+        event.commit(CACHE_NAME, body != null ? CacheEvent.HIT : CacheEvent.MISS, 0);
+        return body;
+    }
+
+    private ProductsResponseDto lookup(String token) {
+        long now = clock.millis();
+        CachedResponse current = response;
+        if (current == null || current.expiresAt <= now) {
+            return null;
+        }
+        TokenKey key = TokenKey.of(token);
+        Verified entry = verified.get(key.slot(mask));
+        if (entry == null || !entry.key.equals(key) || entry.expiresAt <= now) {
+            return null;
+        }
+        return current.body;
+    }
+
+    /**
+     * Registra a resposta da API externa para um token que ela acabou de aceitar
+     */
+    public void put(String token, ProductsResponseDto body) {
+        long now = clock.millis();
+        long expiresAt = now + verifiedTtlMillis;
+        TokenClaims claims = jwtVerifier.readUnverified(token);
+        if (claims != null && claims.expiresAt() != Long.MAX_VALUE) {
+            expiresAt = Math.min(expiresAt, claims.expiresAt() * 1_000);
+        }
+        TokenKey key = TokenKey.of(token);
+        verified.set(key.slot(mask), new Verified(key, expiresAt));
+        response = new CachedResponse(body, now + responseTtlMillis);
+    }
+
+    /**
+     * Esquece a verificação do token (ex.: a API externa passou a recusá-lo)
+     */
+    public void invalidate(String token) {
+        TokenKey key = TokenKey.of(token);
+        Verified entry = verified.get(key.slot(mask));
+        if (entry != null && entry.key.equals(key)) {
+            verified.compareAndSet(key.slot(mask), entry, null);
+        }
+    }
+
+    private record Verified(TokenKey key, long expiresAt) {
+    }
+
+    private record CachedResponse(ProductsResponseDto body, long expiresAt) {
+    }
+}
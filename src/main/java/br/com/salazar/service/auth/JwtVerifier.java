@@ -0,0 +1,199 @@
+package br.com.salazar.service.auth;
+
+import br.com.salazar.service.ProductService.UnauthorizedException;
+import br.com.salazar.service.jfr.CacheEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Pré-validação local dos bearer tokens antes de encaminhá-los à API externa
+ *
+ * Tokens malformados, com assinatura inválida ou expirados são recusados aqui,
+ * sem ida à API externa. Verificações feitas:
+ * - Estrutura do JWT (header.payload.assinatura em Base64URL, payload JSON)
+ * - Claim "exp", com uma pequena tolerância de relógio
+ * - Assinatura HMAC (HS256/HS384/HS512), apenas quando app.auth.jwt.secret está configurado
+ *
+ * O resultado da validação (claims ou recusa) fica em um cache de
+ * tamanho fixo indexado pelo SHA-256 do token, então o mesmo token não é
+ * decodificado de novo a cada requisição e o token em si não fica em memória.
+ * A expiração é reavaliada em todo acerto do cache.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@Component
+public class JwtVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtVerifier.class);
+
+    private static final String CACHE_NAME = "jwt";
+
+    // Pré-alocadas e sem stack trace: a recusa de token é a resposta de erro mais frequente
+    private static final UnauthorizedException INVALID_TOKEN =
+            new UnauthorizedException("Invalid/Expired Token!", false);
+    private static final UnauthorizedException EXPIRED_TOKEN = new UnauthorizedException("Token Expired!", false);
+
+    private final ObjectMapper objectMapper;
+    private final byte[] secret;
+    private final long clockSkewSeconds;
+    private final Clock clock;
+    private final AtomicReferenceArray<Entry> cache;
+    private final int mask;
+
+    @Autowired
+    public JwtVerifier(ObjectMapper objectMapper,
+                       @Value("${app.auth.jwt.secret:}") String secret,
+                       @Value("${app.auth.jwt.cache-size:4096}") int cacheSize,
+                       @Value("${app.auth.jwt.clock-skew-seconds:30}") long clockSkewSeconds) {
+        this(objectMapper, secret, cacheSize, clockSkewSeconds, Clock.systemUTC());
+    }
+
+    public JwtVerifier(ObjectMapper objectMapper, String secret, int cacheSize, long clockSkewSeconds, Clock clock) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("app.auth.jwt.cache-size deve ser positivo");
+        }
+        this.objectMapper = objectMapper;
+        this.secret = secret == null || secret.isEmpty() ? null : secret.getBytes(StandardCharsets.UTF_8);
+        this.clockSkewSeconds = clockSkewSeconds;
+        this.clock = clock;
+        // Potência de 2 para indexar pelo hash com uma máscara
+        int capacity = Integer.highestOneBit(Math.max(1, cacheSize - 1)) << 1;
+        this.cache = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        log.info("Validação local de JWT ativa (assinatura {}, cache de {} tokens)",
+                this.secret != null ? "verificada" : "não verificada", capacity);
+    }
+
+    /**
+     * Valida o token localmente
+     *
+     * @param token Bearer token sem o prefixo "Bearer "
+     * @return Claims do token
+     * @throws UnauthorizedException Se o token for malformado, tiver assinatura inválida ou estiver expirado
+     */
+    public TokenClaims verify(String token) {
+        TokenKey key = TokenKey.of(token);
+        int slot = key.slot(mask);
+
+        CacheEvent event = new CacheEvent();
+        event.begin();
+        Entry entry = cache.get(slot);
+        if (entry == null || !entry.key.equals(key)) {
+            entry = decode(token, key);
+            cache.set(slot, entry);
+            event.commit(CACHE_NAME, CacheEvent.LOAD, 0);
+        } else {
+            event.commit(CACHE_NAME, CacheEvent.HIT, 0);
+        }
+
+        if (entry.claims == null) {
+            throw INVALID_TOKEN;
+        }
+        if (entry.claims.isExpired(clock.instant().getEpochSecond(), clockSkewSeconds)) {
+            throw EXPIRED_TOKEN;
+        }
+        return entry.claims;
+    }
+
+    /**
+     * Lê as claims sem verificar assinatura nem expiração e sem passar pelo cache
+     *
+     * Serve apenas para decisões internas (ex.: quando renovar um token), nunca
+     * para autorizar uma requisição.
+     *
+     * @return Claims do token ou null se ele não for um JWT legível
+     */
+    public TokenClaims readUnverified(String token) {
+        return token == null ? null : decode(token, null, false).claims;
+    }
+
+    private Entry decode(String token, TokenKey key) {
+        return decode(token, key, secret != null);
+    }
+
+    private Entry decode(String token, TokenKey key, boolean checkSignature) {
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return Entry.rejected(key);
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            JsonNode header = objectMapper.readTree(decoder.decode(token.substring(0, firstDot)));
+            JsonNode payload = objectMapper.readTree(decoder.decode(token.substring(firstDot + 1, secondDot)));
+            if (header == null || !header.isObject() || payload == null || !payload.isObject()) {
+                return Entry.rejected(key);
+            }
+
+            if (checkSignature) {
+                byte[] signature = decoder.decode(token.substring(secondDot + 1));
+                String algorithm = macAlgorithm(header.path("alg").asText());
+                if (algorithm == null || !MessageDigest.isEqual(signature,
+                        sign(algorithm, token.substring(0, secondDot)))) {
+                    log.debug("JWT recusado: assinatura inválida");
+                    return Entry.rejected(key);
+                }
+            }
+
+            JsonNode exp = payload.get("exp");
+            if (exp != null && !exp.canConvertToLong()) {
+                return Entry.rejected(key);
+            }
+            JsonNode id = payload.get("id");
+            TokenClaims claims = new TokenClaims(
+                    id != null && id.canConvertToLong() ? id.asLong() : null,
+                    payload.hasNonNull("username") ? payload.get("username").asText() : null,
+                    payload.path("iat").asLong(0L),
+                    exp != null ? exp.asLong() : Long.MAX_VALUE);
+            return new Entry(key, claims);
+        } catch (IllegalArgumentException | IOException e) {
+            log.debug("JWT recusado: {}", e.getMessage());
+            return Entry.rejected(key);
+        }
+    }
+
+    private static String macAlgorithm(String alg) {
+        return switch (alg) {
+            case "HS256" -> "HmacSHA256";
+            case "HS384" -> "HmacSHA384";
+            case "HS512" -> "HmacSHA512";
+            default -> null;
+        };
+    }
+
+    private byte[] sign(String algorithm, String signingInput) {
+        try {
+            Mac mac = Mac.getInstance(algorithm);
+            mac.init(new SecretKeySpec(secret, algorithm));
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Falha ao calcular assinatura " + algorithm, e);
+        }
+    }
+
+    /**
+     * Resultado da validação de um token; claims null quando o token foi recusado
+     */
+    private record Entry(TokenKey key, TokenClaims claims) {
+        static Entry rejected(TokenKey key) {
+            return new Entry(key, null);
+        }
+    }
+}
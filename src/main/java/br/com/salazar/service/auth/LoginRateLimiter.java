@@ -0,0 +1,193 @@
+package br.com.salazar.service.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite de tentativas de login por usuário e por IP de origem
+ *
+ * Cada chave tem um token bucket implementado como GCRA: o estado inteiro é um
+ * único instante ("quando o bucket estará cheio de novo"), então cabe em um
+ * long e é atualizado com um CAS, sem locks.
+ *
+ * Os buckets ficam em uma tabela de tamanho fixo (AtomicLongArray). Cada slot
+ * guarda a impressão digital da chave (12 bits) e o instante em microssegundos
+ * (52 bits). Uma chave pode ocupar um de dois slots; um slot cujo bucket já
+ * está cheio pertence a ninguém e é reaproveitado por outra chave. Assim a
+ * memória não cresce com a quantidade de usuários/IPs distintos, mesmo sob
+ * ataque com chaves aleatórias: na pior das hipóteses uma chave ativa perde o
+ * slot e recomeça com o bucket cheio. Essas perdas são só contadas
+ * ({@link #activeEvictions()}); sob ataque seriam uma por tentativa, então não
+ * geram log.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginRateLimiter.class);
+
+    private static final int FINGERPRINT_BITS = 12;
+    private static final int TIME_BITS = 64 - FINGERPRINT_BITS;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+
+    // Separa o espaço de chaves de usuário e de IP
+    private static final long USER_SEED = 0x9E3779B97F4A7C15L;
+    private static final long IP_SEED = 0xC2B2AE3D27D4EB4FL;
+
+    private final boolean enabled;
+    private final Limit perUser;
+    private final Limit perIp;
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final LongSupplier nanoTime;
+    private final long startNanos;
+    private final LongAdder activeEvictions = new LongAdder();
+
+    @Autowired
+    public LoginRateLimiter(@Value("${app.auth.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${app.auth.rate-limit.user-capacity:5}") int userCapacity,
+                            @Value("${app.auth.rate-limit.user-per-minute:5}") int userPerMinute,
+                            @Value("${app.auth.rate-limit.ip-capacity:30}") int ipCapacity,
+                            @Value("${app.auth.rate-limit.ip-per-minute:60}") int ipPerMinute,
+                            @Value("${app.auth.rate-limit.table-size:65536}") int tableSize) {
+        this(enabled, userCapacity, userPerMinute, ipCapacity, ipPerMinute, tableSize, System::nanoTime);
+    }
+
+    public LoginRateLimiter(boolean enabled, int userCapacity, int userPerMinute, int ipCapacity, int ipPerMinute,
+                            int tableSize, LongSupplier nanoTime) {
+        if (tableSize < 2) {
+            throw new IllegalArgumentException("app.auth.rate-limit.table-size deve ser pelo menos 2");
+        }
+        this.enabled = enabled;
+        this.perUser = new Limit(userCapacity, userPerMinute);
+        this.perIp = new Limit(ipCapacity, ipPerMinute);
+        int capacity = Integer.highestOneBit(tableSize - 1) << 1;
+        this.slots = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.nanoTime = nanoTime;
+        // Origem dos instantes guardados; 0 em um slot significa "bucket cheio desde sempre"
+        this.startNanos = nanoTime.getAsLong() - TimeUnit.DAYS.toNanos(1);
+        log.info("Limite de login: {} tentativas/min por usuário, {} por IP ({} slots)",
+                userPerMinute, ipPerMinute, capacity);
+    }
+
+    /**
+     * Consome uma tentativa do IP e do usuário
+     *
+     * @param username Usuário informado no login (comparado sem diferenciar maiúsculas)
+     * @param clientIp Endereço de origem da requisição
+     * @return 0 se a tentativa é permitida; senão, segundos até a próxima tentativa possível
+     */
+    public long tryAcquire(String username, String clientIp) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = (nanoTime.getAsLong() - startNanos) / 1_000;
+        long wait = acquire(hash(clientIp, IP_SEED, false), perIp, now);
+        if (wait == 0) {
+            wait = acquire(hash(username, USER_SEED, true), perUser, now);
+        }
+        return wait == 0 ? 0 : Math.max(1, TimeUnit.MICROSECONDS.toSeconds(wait + 999_999));
+    }
+
+    // Retorna 0 ou o tempo de espera em microssegundos
+    private long acquire(long hash, Limit limit, long now) {
+        long fingerprint = (hash >>> TIME_BITS) | 1;
+        int first = (int) hash & mask;
+        int second = (int) (hash >>> 24) & mask;
+
+        while (true) {
+            long a = slots.get(first);
+            long b = slots.get(second);
+            int index;
+            long current;
+            if (a >>> TIME_BITS == fingerprint) {
+                index = first;
+                current = a;
+            } else if (b >>> TIME_BITS == fingerprint) {
+                index = second;
+                current = b;
+            } else {
+                // Chave sem bucket: ocupa o slot com o bucket mais cheio (menor instante),
+                // de preferência um que já esteja cheio e portanto livre
+                boolean useFirst = (a & TIME_MASK) <= (b & TIME_MASK);
+                index = useFirst ? first : second;
+                current = useFirst ? a : b;
+                // Para a chave nova o bucket começa cheio
+                long next = (fingerprint << TIME_BITS) | ((now + limit.interval) & TIME_MASK);
+                if (slots.compareAndSet(index, current, next)) {
+                    if ((current & TIME_MASK) > now) {
+                        activeEvictions.increment();
+                    }
+                    return 0;
+                }
+                continue;
+            }
+
+            long full = Math.max(current & TIME_MASK, now);
+            if (full - now > limit.tolerance) {
+                return full - now - limit.tolerance;
+            }
+            long next = (fingerprint << TIME_BITS) | ((full + limit.interval) & TIME_MASK);
+            if (slots.compareAndSet(index, current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Quantas vezes uma chave nova tomou o slot de um bucket ainda ativo
+     *
+     * Cresce continuamente quando a tabela é pequena para o volume de chaves distintas.
+     */
+    public long activeEvictions() {
+        return activeEvictions.sum();
+    }
+
+    // FNV-1a de 64 bits seguido de um misturador, sem alocar (sem toLowerCase)
+    private static long hash(String value, long seed, boolean ignoreCase) {
+        long h = 0xCBF29CE484222325L ^ seed;
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                h ^= ignoreCase ? Character.toLowerCase(c) : c;
+                h *= 0x100000001B3L;
+            }
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Parâmetros do GCRA em microssegundos
+     */
+    private static final class Limit {
+        // Intervalo entre tentativas no ritmo sustentado
+        private final long interval;
+        // Quanto o instante "cheio" pode estar à frente de agora (rajada = capacity tentativas)
+        private final long tolerance;
+
+        Limit(int capacity, int perMinute) {
+            if (capacity < 1 || perMinute < 1) {
+                throw new IllegalArgumentException("Limites de login devem ser positivos");
+            }
+            this.interval = TimeUnit.MINUTES.toMicros(1) / perMinute;
+            this.tolerance = interval * (capacity - 1);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.salazar.service.auth;
+
+/**
+ * Claims de um JWT emitido pela API externa, já validado localmente
+ *
+ * @param userId Claim "id" do usuário (null quando ausente)
+ * @param username Claim "username" (null quando ausente)
+ * @param issuedAt Claim "iat" em segundos desde a época (0 quando ausente)
+ * @param expiresAt Claim "exp" em segundos desde a época ({@link Long#MAX_VALUE} quando ausente)
+ */
+public record TokenClaims(Long userId, String username, long issuedAt, long expiresAt) {
+
+    /**
+     * @return true se o token já expirou no instante informado, com a tolerância dada
+     */
+    public boolean isExpired(long nowEpochSeconds, long clockSkewSeconds) {
+        return expiresAt != Long.MAX_VALUE && nowEpochSeconds - clockSkewSeconds >= expiresAt;
+    }
+}
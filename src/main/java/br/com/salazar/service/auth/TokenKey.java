@@ -0,0 +1,39 @@
+package br.com.salazar.service.auth;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Identidade de um token para caches: 128 bits do SHA-256 do token
+ *
+ * Permite indexar resultados por token sem guardar o token em memória.
+ *
+ * @param hi Primeiros 64 bits do hash
+ * @param lo 64 bits seguintes do hash
+ */
+record TokenKey(long hi, long lo) {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    });
+
+    static TokenKey of(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+        return new TokenKey(ByteBuffer.wrap(hash, 0, 8).getLong(), ByteBuffer.wrap(hash, 8, 8).getLong());
+    }
+
+    /**
+     * Posição em uma tabela com tamanho potência de 2
+     */
+    int slot(int mask) {
+        return (int) lo & mask;
+    }
+}
@@ -0,0 +1,310 @@
+package br.com.salazar.service.auth;
+
+import br.com.salazar.exception.AuthenticationException;
+import br.com.salazar.model.dto.LoginResponseDto;
+import br.com.salazar.model.dto.RefreshTokenResponseDto;
+import br.com.salazar.service.AuthService;
+import br.com.salazar.service.jfr.CacheEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Acompanha as sessões abertas pelo login e renova os tokens antes de expirarem
+ *
+ * Cada login gera uma sessão com o par token/refreshToken e as respectivas
+ * expirações (claim "exp"). Uma varredura periódica renova em segundo plano os
+ * tokens que vão expirar dentro da janela configurada, então o cliente que
+ * chama /auth/refresh perto da expiração recebe o par novo direto da memória,
+ * sem ida à API externa e sem precisar refazer o login.
+ *
+ * Renovações da mesma sessão são coalescidas: enquanto uma está em andamento,
+ * qualquer outro pedido (varredura ou cliente) aguarda o mesmo resultado, e
+ * a API externa recebe uma única chamada.
+ *
+ * A sessão é encontrada pelo hash ({@link TokenKey}) do refresh token que o
+ * cliente tem em mãos. O par renovado é entregue uma única vez, a quem
+ * apresentar exatamente esse refresh token; a partir daí a sessão passa a ser
+ * encontrada pelo refresh token novo. Um refresh token já trocado não encontra
+ * sessão e segue para a API externa, que decide se ainda é válido. O único
+ * texto de token guardado é o par atual de cada sessão, necessário para
+ * renová-lo e entregá-lo.
+ *
+ * Sessões inativas além do tempo limite ou com o refresh token expirado são
+ * descartadas; a quantidade de sessões é limitada.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@Service
+public class TokenSessionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenSessionManager.class);
+
+    private static final String CACHE_NAME = "token-sessions";
+
+    private final AuthService authService;
+    private final JwtVerifier jwtVerifier;
+    private final Executor executor;
+    private final Clock clock;
+    private final long refreshAheadSeconds;
+    private final long idleTimeoutSeconds;
+    private final int maxSessions;
+
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+    // Sessão pelo hash do refresh token que o cliente tem em mãos (um por sessão)
+    private final Map<TokenKey, Session> byRefreshToken = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TokenSessionManager(AuthService authService, JwtVerifier jwtVerifier,
+                               @Qualifier("upstreamExecutor") Executor executor,
+                               @Value("${app.auth.session.refresh-ahead-seconds:60}") long refreshAheadSeconds,
+                               @Value("${app.auth.session.idle-timeout-seconds:1800}") long idleTimeoutSeconds,
+                               @Value("${app.auth.session.max-sessions:10000}") int maxSessions) {
+        this(authService, jwtVerifier, executor, refreshAheadSeconds, idleTimeoutSeconds, maxSessions,
+                Clock.systemUTC());
+    }
+
+    public TokenSessionManager(AuthService authService, JwtVerifier jwtVerifier, Executor executor,
+                               long refreshAheadSeconds, long idleTimeoutSeconds, int maxSessions, Clock clock) {
+        this.authService = authService;
+        this.jwtVerifier = jwtVerifier;
+        this.executor = executor;
+        this.refreshAheadSeconds = refreshAheadSeconds;
+        this.idleTimeoutSeconds = idleTimeoutSeconds;
+        this.maxSessions = maxSessions;
+        this.clock = clock;
+    }
+
+    /**
+     * Passa a acompanhar a sessão aberta por um login
+     *
+     * Nunca falha o login: tokens que não são JWT legíveis simplesmente não são acompanhados.
+     */
+    public void register(LoginResponseDto login) {
+        Tokens tokens = login != null ? tokensOf(login.getToken(), login.getRefreshToken()) : null;
+        if (tokens == null) {
+            log.debug("Sessão não acompanhada: tokens do login não são JWT legíveis");
+            return;
+        }
+        track(new Session(tokens, now()));
+    }
+
+    /**
+     * Devolve um par de tokens válido para o refresh token informado
+     *
+     * Se a sessão já foi renovada em segundo plano, responde da memória com o par
+     * emitido em troca deste refresh token; senão renova agora (ou aguarda a
+     * renovação em andamento da mesma sessão).
+     *
+     * @throws AuthenticationException Se o refresh token for inválido ou recusado pela API externa
+     */
+    public RefreshTokenResponseDto refresh(String refreshToken) {
+        long now = now();
+        TokenKey presented = TokenKey.of(refreshToken);
+        Session session = byRefreshToken.get(presented);
+        if (session == null) {
+            // Sessão desconhecida (ex.: login anterior ao restart) ou refresh token já trocado:
+            // renova na API externa e começa a acompanhar a partir daqui
+            Tokens tokens = tokensOf(null, refreshToken);
+            if (tokens == null || tokens.refreshExpiresAt() <= now) {
+                throw new AuthenticationException("Invalid or expired refresh token");
+            }
+            session = track(new Session(tokens, now));
+        }
+        session.lastAccess = now;
+
+        Tokens current = session.tokens;
+        if (current.accessToken() == null || current.accessExpiresAt() - now <= refreshAheadSeconds) {
+            // WAIT: outra requisição ou a varredura já estava renovando esta sessão
+            CacheEvent event = new CacheEvent();
+            event.begin();
+            boolean coalesced = session.inFlight.get() != null;
+            try {
+                current = join(refresh(session));
+            } finally {
+                event.commit(CACHE_NAME, coalesced ? CacheEvent.WAIT : CacheEvent.LOAD, 0);
+            }
+        }
+        handOver(session, presented, current);
+        return new RefreshTokenResponseDto(current.accessToken(), current.refreshToken());
+    }
+
+    // O par foi entregue ao cliente: o refresh token apresentado deixa de encontrar a sessão
+    private void handOver(Session session, TokenKey presented, Tokens delivered) {
+        if (delivered.refreshKey().equals(presented)) {
+            return;
+        }
+        if (sessions.contains(session)) {
+            byRefreshToken.put(delivered.refreshKey(), session);
+        }
+        session.clientKey = delivered.refreshKey();
+        byRefreshToken.remove(presented, session);
+    }
+
+    /**
+     * Varredura periódica: renova tokens prestes a expirar e descarta sessões encerradas
+     */
+    @Scheduled(initialDelayString = "${app.auth.session.scan-interval-ms:15000}",
+            fixedDelayString = "${app.auth.session.scan-interval-ms:15000}")
+    public void refreshExpiring() {
+        long now = now();
+        for (Session session : sessions) {
+            Tokens tokens = session.tokens;
+            if (tokens.refreshExpiresAt() <= now || now - session.lastAccess > idleTimeoutSeconds) {
+                remove(session);
+            } else if (tokens.accessExpiresAt() - now <= refreshAheadSeconds
+                    && tokens.refreshKey().equals(session.clientKey)) {
+                // Par renovado ainda não entregue não é renovado de novo: o cliente
+                // que voltar recebe o par emitido para o refresh token que tem
+                refresh(session).whenComplete((next, error) -> {
+                    if (error != null) {
+                        log.warn("Falha ao renovar token em segundo plano: {}", error.getMessage());
+                    }
+                });
+            }
+        }
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    // Inicia a renovação ou devolve a que já está em andamento para a sessão
+    private CompletableFuture<Tokens> refresh(Session session) {
+        while (true) {
+            CompletableFuture<Tokens> pending = session.inFlight.get();
+            if (pending != null) {
+                return pending;
+            }
+            CompletableFuture<Tokens> future = new CompletableFuture<>();
+            if (session.inFlight.compareAndSet(null, future)) {
+                try {
+                    executor.execute(() -> renew(session, future));
+                } catch (RuntimeException e) {
+                    session.inFlight.compareAndSet(future, null);
+                    future.completeExceptionally(e);
+                }
+                return future;
+            }
+        }
+    }
+
+    private void renew(Session session, CompletableFuture<Tokens> future) {
+        Tokens previous = session.tokens;
+        try {
+            RefreshTokenResponseDto response = authService.refresh(previous.refreshToken());
+            String nextRefreshToken = response.getRefreshToken() != null
+                    ? response.getRefreshToken() : previous.refreshToken();
+            Tokens next = tokensOf(response.getToken(), nextRefreshToken);
+            if (next == null) {
+                throw new AuthenticationException("Unreadable token returned by refresh");
+            }
+            session.tokens = next;
+            log.debug("Token renovado; expira em {}s", next.accessExpiresAt() - now());
+            future.complete(next);
+        } catch (AuthenticationException e) {
+            remove(session);
+            future.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            session.inFlight.compareAndSet(future, null);
+        }
+    }
+
+    private Session track(Session session) {
+        if (sessions.size() >= maxSessions) {
+            purgeExpired();
+        }
+        Session existing = byRefreshToken.putIfAbsent(session.clientKey, session);
+        if (existing != null) {
+            return existing;
+        }
+        if (sessions.size() >= maxSessions) {
+            // Sem espaço: atende normalmente, só não acompanha a sessão
+            byRefreshToken.remove(session.clientKey, session);
+            log.warn("Limite de {} sessões acompanhadas atingido", maxSessions);
+            return session;
+        }
+        sessions.add(session);
+        return session;
+    }
+
+    private void purgeExpired() {
+        long now = now();
+        for (Session session : sessions) {
+            if (session.tokens.refreshExpiresAt() <= now || now - session.lastAccess > idleTimeoutSeconds) {
+                remove(session);
+            }
+        }
+    }
+
+    private void remove(Session session) {
+        sessions.remove(session);
+        byRefreshToken.remove(session.clientKey, session);
+    }
+
+    // Par de tokens com as expirações lidas das claims; null se o refresh token não for legível
+    private Tokens tokensOf(String accessToken, String refreshToken) {
+        TokenClaims refreshClaims = jwtVerifier.readUnverified(refreshToken);
+        if (refreshClaims == null) {
+            return null;
+        }
+        TokenClaims accessClaims = jwtVerifier.readUnverified(accessToken);
+        // Token de acesso ausente ou ilegível conta como já expirado
+        long accessExpiresAt = accessClaims != null ? accessClaims.expiresAt() : 0L;
+        return new Tokens(accessClaims != null ? accessToken : null, refreshToken, TokenKey.of(refreshToken),
+                accessExpiresAt, refreshClaims.expiresAt());
+    }
+
+    private static Tokens join(CompletableFuture<Tokens> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private long now() {
+        return clock.instant().getEpochSecond();
+    }
+
+    /**
+     * Par de tokens de uma sessão; expirações em segundos desde a época
+     */
+    private record Tokens(String accessToken, String refreshToken, TokenKey refreshKey, long accessExpiresAt,
+                          long refreshExpiresAt) {
+    }
+
+    private static final class Session {
+        private final AtomicReference<CompletableFuture<Tokens>> inFlight = new AtomicReference<>();
+        private volatile Tokens tokens;
+        // Hash do refresh token que o cliente recebeu por último
+        private volatile TokenKey clientKey;
+        private volatile long lastAccess;
+
+        Session(Tokens tokens, long lastAccess) {
+            this.tokens = tokens;
+            this.clientKey = tokens.refreshKey();
+            this.lastAccess = lastAccess;
+        }
+    }
+}
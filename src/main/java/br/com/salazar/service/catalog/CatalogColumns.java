@@ -0,0 +1,536 @@
+package br.com.salazar.service.catalog;
+
+import br.com.salazar.model.dto.ProductDto;
+import br.com.salazar.model.money.Money;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Armazenamento colunar (struct-of-arrays) do catálogo
+ *
+ * É a única cópia dos produtos em memória: cada campo fica em um array
+ * próprio, e a posição i de todos eles é o produto i do snapshot. Não há um
+ * objeto por produto; {@link CompactProduct} é só uma vista (colunas + ordinal)
+ * criada sob demanda. Operações sobre o catálogo inteiro (filtros, ordenação,
+ * agregados) percorrem arrays primitivos contíguos:
+ * - ids, preços, descontos, ratings e estoques em long[]/double[]/int[]
+ * - ausência de id, estoque, descrição e imagens em uma máscara de bits por produto (byte[])
+ * - categoria e marca codificadas em int[] contra um dicionário de valores distintos
+ * - títulos em String[], as mesmas instâncias que o {@link TitleSuggestIndex} guarda
+ * - descrições em um único byte[] UTF-8, delimitado por produto em um int[];
+ *   cada leitura decodifica uma String nova, e só a resposta da API as lê
+ * - thumbnail e imagens em uma {@link UrlColumn}, com prefixos e nomes de
+ *   arquivo em dicionário
+ *
+ * Preços são normalizados para centavos exatos ({@link Money}) na carga, então
+ * a volta para centavos é exata. O preço final (com desconto) é pré-calculado
+ * por {@link PriceKernels}: são 8 bytes por produto, o único campo derivado,
+ * para que /products/pricing não recalcule o catálogo a cada chamada.
+ *
+ * As colunas são construídas pelo {@link Builder} e nunca alteradas depois,
+ * então podem ser lidas por várias threads sem sincronização.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class CatalogColumns {
+
+    /** Código de categoria/marca ausente */
+    public static final int NO_CODE = -1;
+
+    // Máscara de ausência; preço, desconto e rating ausentes são NaN na própria coluna
+    static final int NO_ID = 1;
+    static final int NO_STOCK = 1 << 1;
+    static final int NO_IMAGES = 1 << 2;
+    static final int NO_DESCRIPTION = 1 << 3;
+
+    private final long[] ids;
+    private final byte[] absent;
+    private final double[] prices;
+    private final double[] discounts;
+    private final double[] finalPrices;
+    private final double[] ratings;
+    private final int[] stocks;
+    private final int[] categoryCodes;
+    private final int[] brandCodes;
+    private final String[] categories;
+    private final String[] brands;
+    private final String[] titles;
+    // Produto i: bytes de descriptionEnds[i - 1] (0 para o primeiro) até descriptionEnds[i]
+    private final byte[] descriptionBytes;
+    private final int[] descriptionEnds;
+    // Linha i: thumbnail seguido das imagens
+    private final UrlColumn urls;
+
+    private CatalogColumns(Builder builder) {
+        int n = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, n);
+        this.absent = Arrays.copyOf(builder.absent, n);
+        this.prices = Arrays.copyOf(builder.prices, n);
+        this.discounts = Arrays.copyOf(builder.discounts, n);
+        this.ratings = Arrays.copyOf(builder.ratings, n);
+        this.stocks = Arrays.copyOf(builder.stocks, n);
+        this.categoryCodes = Arrays.copyOf(builder.categoryCodes, n);
+        this.brandCodes = Arrays.copyOf(builder.brandCodes, n);
+        this.categories = decode(builder.categoryDictionary);
+        this.brands = decode(builder.brandDictionary);
+        this.titles = Arrays.copyOf(builder.titles, n);
+        this.descriptionBytes = Arrays.copyOf(builder.descriptionBytes, builder.descriptionLength);
+        this.descriptionEnds = Arrays.copyOf(builder.descriptionEnds, n);
+        this.urls = builder.urls.build();
+        this.finalPrices = new double[n];
+        PriceKernels.best().finalPrices(prices, discounts, finalPrices);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Constrói as colunas na mesma ordem da lista recebida, copiando cada produto
+     */
+    public static CatalogColumns of(List<CompactProduct> products) {
+        Builder builder = new Builder();
+        for (CompactProduct product : products) {
+            builder.add(product);
+        }
+        return builder.build();
+    }
+
+    private static String[] decode(Map<String, Integer> dictionary) {
+        String[] values = new String[dictionary.size()];
+        dictionary.forEach((value, code) -> values[code] = value);
+        return values;
+    }
+
+    /**
+     * Filtra, ordena e limita em uma única passada pelas colunas
+     *
+     * Apenas os {@code limit} melhores ficam em um heap; o restante é só contado.
+     *
+     * @return Total de produtos que atendem ao filtro e os ordinais da página
+     */
+    public Result query(Query query) {
+        boolean[] category = resolve(categories, query.category());
+        boolean[] brand = resolve(brands, query.brand());
+        if (query.limit() <= 0) {
+            return new Result(0, new int[0]);
+        }
+
+        Sort sort = query.sort() == null ? Sort.CATALOG : query.sort();
+        Selection selection = new Selection(query.limit(),
+                sort == Sort.PRICE ? prices : sort == Sort.RATING ? ratings : null,
+                sort == Sort.STOCK ? stocks : null, query.descending());
+
+        int total = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (category != null && !matches(category, categoryCodes[i])) {
+                continue;
+            }
+            if (brand != null && !matches(brand, brandCodes[i])) {
+                continue;
+            }
+            // Comparações com NaN são falsas: produtos sem preço/rating saem quando há limite
+            if (!Double.isNaN(query.minPrice()) && !(prices[i] >= query.minPrice())) {
+                continue;
+            }
+            if (!Double.isNaN(query.maxPrice()) && !(prices[i] <= query.maxPrice())) {
+                continue;
+            }
+            if (!Double.isNaN(query.minRating()) && !(ratings[i] >= query.minRating())) {
+                continue;
+            }
+            if (query.inStockOnly() && stocks[i] <= 0) {
+                continue;
+            }
+            total++;
+            selection.offer(i);
+        }
+        return new Result(total, selection.sorted());
+    }
+
+    /**
+     * Valor de inventário e histograma de preços finais do catálogo inteiro
+     *
+     * @param bucketWidth Largura de cada faixa de preço
+     * @param buckets Quantidade de faixas; a última acumula os preços acima do limite
+     */
+    public Pricing pricing(double bucketWidth, int buckets) {
+        PriceKernels kernels = PriceKernels.best();
+        long[] histogram = new long[buckets];
+        kernels.histogram(finalPrices, bucketWidth, histogram);
+        return new Pricing(kernels.totals(prices, finalPrices, stocks), histogram);
+    }
+
+    // Códigos aceitos pelo filtro, sem diferenciar maiúsculas; null significa "qualquer"
+    private static boolean[] resolve(String[] dictionary, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        boolean[] accepted = new boolean[dictionary.length];
+        for (int code = 0; code < dictionary.length; code++) {
+            accepted[code] = dictionary[code].equalsIgnoreCase(value.trim());
+        }
+        return accepted;
+    }
+
+    private static boolean matches(boolean[] accepted, int code) {
+        return code != NO_CODE && accepted[code];
+    }
+
+    /**
+     * Vista do produto na posição informada
+     */
+    public CompactProduct product(int ordinal) {
+        return new CompactProduct(this, ordinal);
+    }
+
+    boolean has(int ordinal, int flag) {
+        return (absent[ordinal] & flag) == 0;
+    }
+
+    /** Id do produto; 0 quando ausente */
+    public long id(int ordinal) {
+        return ids[ordinal];
+    }
+
+    /** Preço; NaN quando ausente */
+    public double price(int ordinal) {
+        return prices[ordinal];
+    }
+
+    /** Desconto percentual; NaN quando ausente */
+    public double discount(int ordinal) {
+        return discounts[ordinal];
+    }
+
+    /** Preço com desconto; NaN quando o produto não tem preço */
+    public double finalPrice(int ordinal) {
+        return finalPrices[ordinal];
+    }
+
+    /** Rating; NaN quando ausente */
+    public double rating(int ordinal) {
+        return ratings[ordinal];
+    }
+
+    /** Estoque; 0 quando ausente */
+    public int stock(int ordinal) {
+        return stocks[ordinal];
+    }
+
+    public String title(int ordinal) {
+        return titles[ordinal];
+    }
+
+    public String description(int ordinal) {
+        if (!has(ordinal, NO_DESCRIPTION)) {
+            return null;
+        }
+        int start = ordinal == 0 ? 0 : descriptionEnds[ordinal - 1];
+        return new String(descriptionBytes, start, descriptionEnds[ordinal] - start, StandardCharsets.UTF_8);
+    }
+
+    public String thumbnail(int ordinal) {
+        return urls.url(ordinal, 0);
+    }
+
+    public int imageCount(int ordinal) {
+        return urls.count(ordinal) - 1;
+    }
+
+    public String image(int ordinal, int index) {
+        return urls.url(ordinal, index + 1);
+    }
+
+    /** Código da categoria do produto ou {@link #NO_CODE} */
+    public int categoryCode(int ordinal) {
+        return categoryCodes[ordinal];
+    }
+
+    /** Código da marca do produto ou {@link #NO_CODE} */
+    public int brandCode(int ordinal) {
+        return brandCodes[ordinal];
+    }
+
+    public String category(int code) {
+        return categories[code];
+    }
+
+    public String brand(int code) {
+        return brands[code];
+    }
+
+    public int categoryCount() {
+        return categories.length;
+    }
+
+    public int brandCount() {
+        return brands.length;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Campo de ordenação; CATALOG mantém a ordem original do catálogo
+     */
+    public enum Sort {
+        CATALOG, PRICE, RATING, STOCK
+    }
+
+    /**
+     * Critérios da consulta; limites NaN e textos null significam "sem filtro"
+     */
+    public record Query(String category, String brand, double minPrice, double maxPrice, double minRating,
+                        boolean inStockOnly, Sort sort, boolean descending, int limit) {
+    }
+
+    /**
+     * @param total Quantidade de produtos que atendem ao filtro
+     * @param ordinals Posições dos produtos da página, já ordenados
+     */
+    public record Result(int total, int[] ordinals) {
+    }
+
+    /**
+     * @param totals Totais de inventário
+     * @param histogram Contagem de produtos por faixa de preço final
+     */
+    public record Pricing(PriceKernels.Totals totals, long[] histogram) {
+    }
+
+    /**
+     * Heap de tamanho fixo com os melhores ordinais segundo a ordenação pedida;
+     * a raiz é sempre o pior elemento mantido
+     */
+    private static final class Selection {
+        private final int[] heap;
+        private final double[] doubleKey;
+        private final int[] intKey;
+        private final boolean descending;
+        private int size;
+
+        Selection(int limit, double[] doubleKey, int[] intKey, boolean descending) {
+            this.heap = new int[limit];
+            this.doubleKey = doubleKey;
+            this.intKey = intKey;
+            this.descending = descending;
+        }
+
+        void offer(int ordinal) {
+            if (size < heap.length) {
+                heap[size] = ordinal;
+                siftUp(size++);
+            } else if (better(ordinal, heap[0])) {
+                heap[0] = ordinal;
+                siftDown(0);
+            }
+        }
+
+        // Extrai o pior repetidamente, preenchendo o resultado do fim para o início
+        int[] sorted() {
+            int[] result = new int[size];
+            while (size > 0) {
+                result[size - 1] = heap[0];
+                heap[0] = heap[--size];
+                siftDown(0);
+            }
+            return result;
+        }
+
+        private boolean better(int a, int b) {
+            if (doubleKey != null) {
+                double ka = doubleKey[a];
+                double kb = doubleKey[b];
+                boolean missingA = Double.isNaN(ka);
+                if (missingA != Double.isNaN(kb)) {
+                    return !missingA;
+                }
+                if (!missingA && ka != kb) {
+                    return descending ? ka > kb : ka < kb;
+                }
+            } else if (intKey != null && intKey[a] != intKey[b]) {
+                return descending ? intKey[a] > intKey[b] : intKey[a] < intKey[b];
+            }
+            return a < b;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!better(heap[parent], heap[i])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int worst = i;
+                if (left < size && better(heap[worst], heap[left])) {
+                    worst = left;
+                }
+                if (left + 1 < size && better(heap[worst], heap[left + 1])) {
+                    worst = left + 1;
+                }
+                if (worst == i) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int ordinal = heap[a];
+            heap[a] = heap[b];
+            heap[b] = ordinal;
+        }
+    }
+
+    /**
+     * Acumula produtos em arrays que crescem conforme a carga e gera as colunas
+     *
+     * Os produtos lidos da API externa entram direto do DTO, que pode ser
+     * descartado em seguida; o catálogo nunca fica inteiro como DTO em memória.
+     * Não é thread-safe; a carga do catálogo acontece em uma única thread.
+     */
+    public static final class Builder {
+
+        private int size;
+        private long[] ids = new long[16];
+        private byte[] absent = new byte[16];
+        private double[] prices = new double[16];
+        private double[] discounts = new double[16];
+        private double[] ratings = new double[16];
+        private int[] stocks = new int[16];
+        private int[] categoryCodes = new int[16];
+        private int[] brandCodes = new int[16];
+        private String[] titles = new String[16];
+        private int[] descriptionEnds = new int[16];
+        private byte[] descriptionBytes = new byte[4096];
+        private int descriptionLength;
+        private final UrlColumn.Builder urls = UrlColumn.builder();
+        private final Map<String, Integer> categoryDictionary = new HashMap<>();
+        private final Map<String, Integer> brandDictionary = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adiciona um produto lido da API externa
+         *
+         * @return Ordinal do produto nas colunas
+         * @throws ArithmeticException Se o preço não couber em centavos
+         */
+        public int add(ProductDto dto) {
+            int absentFlags = (dto.getId() == null ? NO_ID : 0)
+                    | (dto.getStock() == null ? NO_STOCK : 0)
+                    | (dto.getImages() == null ? NO_IMAGES : 0);
+            int ordinal = append(
+                    dto.getId() != null ? dto.getId() : 0L,
+                    dto.getPrice() != null ? Money.toDouble(Money.fromDouble(dto.getPrice())) : Double.NaN,
+                    dto.getDiscountPercentage() != null ? dto.getDiscountPercentage() : Double.NaN,
+                    dto.getRating() != null ? dto.getRating() : Double.NaN,
+                    dto.getStock() != null ? dto.getStock() : 0,
+                    absentFlags, dto.getCategory(), dto.getBrand(), dto.getTitle(), dto.getDescription());
+
+            urls.add(dto.getThumbnail());
+            if (dto.getImages() != null) {
+                dto.getImages().forEach(urls::add);
+            }
+            urls.endRow();
+            return ordinal;
+        }
+
+        /**
+         * Copia um produto de outras colunas
+         *
+         * @return Ordinal do produto nestas colunas
+         */
+        public int add(CompactProduct product) {
+            CatalogColumns source = product.columns();
+            int from = product.ordinal();
+            int ordinal = append(source.ids[from], source.prices[from], source.discounts[from],
+                    source.ratings[from], source.stocks[from], source.absent[from], product.category(),
+                    product.brand(), source.titles[from], product.description());
+
+            for (int i = 0; i < source.urls.count(from); i++) {
+                urls.add(source.urls.url(from, i));
+            }
+            urls.endRow();
+            return ordinal;
+        }
+
+        private int append(long id, double price, double discount, double rating, int stock, int absentFlags,
+                           String category, String brand, String title, String description) {
+            if (size == ids.length) {
+                grow();
+            }
+            int ordinal = size++;
+            ids[ordinal] = id;
+            absent[ordinal] = (byte) (absentFlags | (description == null ? NO_DESCRIPTION : 0));
+            prices[ordinal] = price;
+            discounts[ordinal] = discount;
+            ratings[ordinal] = rating;
+            stocks[ordinal] = stock;
+            categoryCodes[ordinal] = encode(categoryDictionary, category);
+            brandCodes[ordinal] = encode(brandDictionary, brand);
+            titles[ordinal] = title;
+            if (description != null) {
+                byte[] bytes = description.getBytes(StandardCharsets.UTF_8);
+                if (descriptionLength + bytes.length > descriptionBytes.length) {
+                    descriptionBytes = Arrays.copyOf(descriptionBytes,
+                            Math.max(descriptionBytes.length * 2, descriptionLength + bytes.length));
+                }
+                System.arraycopy(bytes, 0, descriptionBytes, descriptionLength, bytes.length);
+                descriptionLength += bytes.length;
+            }
+            descriptionEnds[ordinal] = descriptionLength;
+            return ordinal;
+        }
+
+        // O dicionário também deduplica: todos os produtos apontam para a mesma instância
+        private static int encode(Map<String, Integer> dictionary, String value) {
+            if (value == null) {
+                return NO_CODE;
+            }
+            return dictionary.computeIfAbsent(value, v -> dictionary.size());
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            absent = Arrays.copyOf(absent, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            discounts = Arrays.copyOf(discounts, capacity);
+            ratings = Arrays.copyOf(ratings, capacity);
+            stocks = Arrays.copyOf(stocks, capacity);
+            categoryCodes = Arrays.copyOf(categoryCodes, capacity);
+            brandCodes = Arrays.copyOf(brandCodes, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+            descriptionEnds = Arrays.copyOf(descriptionEnds, capacity);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Colunas com o tamanho exato dos produtos adicionados
+         */
+        public CatalogColumns build() {
+            return new CatalogColumns(this);
+        }
+    }
+}
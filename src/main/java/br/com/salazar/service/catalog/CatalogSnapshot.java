@@ -0,0 +1,185 @@
+package br.com.salazar.service.catalog;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Snapshot imutável do catálogo de produtos e dos índices derivados dele
+ *
+ * Um novo snapshot é construído a cada atualização do catálogo e publicado
+ * de forma atômica, então as threads de requisição nunca enxergam índices
+ * parcialmente construídos.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class CatalogSnapshot {
+
+    /** Ordem de relevância: maior rating primeiro, depois título */
+    static final Comparator<CompactProduct> BY_RATING = Comparator
+            .comparingDouble((CompactProduct product) -> Double.isNaN(product.rating())
+                    ? Double.POSITIVE_INFINITY : -product.rating())
+            .thenComparing(CompactProduct::title, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final CatalogColumns columns;
+    private final CatalogStats stats;
+    private final LongIntMap byId;
+    // Ordinais das colunas na ordem de relevância (BY_RATING), só produtos com título
+    private final int[] ranked;
+    private final LongIntMap rankedOrdinals;
+    private final TitleSuggestIndex suggestIndex;
+    private final TrigramIndex searchIndex;
+    private final SimilarityIndex similarityIndex;
+    private final Instant loadedAt;
+
+    private CatalogSnapshot(CatalogColumns columns, CatalogStats stats, LongIntMap byId, int[] ranked,
+                            LongIntMap rankedOrdinals, TitleSuggestIndex suggestIndex, TrigramIndex searchIndex,
+                            SimilarityIndex similarityIndex, Instant loadedAt) {
+        this.columns = columns;
+        this.stats = stats;
+        this.byId = byId;
+        this.ranked = ranked;
+        this.rankedOrdinals = rankedOrdinals;
+        this.suggestIndex = suggestIndex;
+        this.searchIndex = searchIndex;
+        this.similarityIndex = similarityIndex;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * Constrói o snapshot copiando os produtos para colunas novas
+     *
+     * @param products Produtos já na forma compacta, possivelmente de colunas diferentes
+     * @param suggestSize Quantidade de sugestões pré-computadas por prefixo
+     * @return Snapshot pronto para leitura concorrente
+     */
+    public static CatalogSnapshot of(List<CompactProduct> products, int suggestSize) {
+        return of(CatalogColumns.of(products == null ? List.of() : products), suggestSize);
+    }
+
+    /**
+     * Constrói o snapshot e todos os seus índices sobre as colunas da carga
+     *
+     * @param columns Produtos vindos da API externa, já em colunas
+     * @param suggestSize Quantidade de sugestões pré-computadas por prefixo
+     * @return Snapshot pronto para leitura concorrente
+     */
+    public static CatalogSnapshot of(CatalogColumns columns, int suggestSize) {
+        LongIntMap byId = new LongIntMap(columns.size());
+        // Vistas temporárias, só para ordenar; o snapshot guarda apenas os ordinais
+        List<CompactProduct> titled = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            CompactProduct product = columns.product(i);
+            if (product.hasId()) {
+                byId.put(product.id(), i);
+            }
+            if (product.title() != null) {
+                titled.add(product);
+            }
+        }
+        titled.sort(BY_RATING);
+
+        int[] ranked = new int[titled.size()];
+        List<String> rankedTitles = new ArrayList<>(titled.size());
+        List<String[]> searchableTexts = new ArrayList<>(titled.size());
+        List<SimilarityIndex.Document> documents = new ArrayList<>(titled.size());
+        LongIntMap rankedOrdinals = new LongIntMap(titled.size());
+        for (CompactProduct product : titled) {
+            if (product.hasId()) {
+                rankedOrdinals.put(product.id(), rankedTitles.size());
+            }
+            ranked[rankedTitles.size()] = product.ordinal();
+            rankedTitles.add(product.title());
+            searchableTexts.add(new String[] {product.title(), product.brand()});
+            documents.add(new SimilarityIndex.Document(product.title(), product.description(),
+                    product.category(), product.price(), product.rating()));
+        }
+
+        return new CatalogSnapshot(columns, CatalogStats.of(columns), byId, ranked, rankedOrdinals,
+                TitleSuggestIndex.build(rankedTitles, suggestSize), TrigramIndex.build(searchableTexts),
+                SimilarityIndex.build(documents), Instant.now());
+    }
+
+    /**
+     * Colunas do catálogo, na ordem em que os produtos vieram da API externa
+     */
+    public CatalogColumns getColumns() {
+        return columns;
+    }
+
+    /**
+     * Agregados por categoria e marca dos produtos deste snapshot; não devem ser alterados
+     */
+    public CatalogStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Produto na posição informada (ordinal das colunas)
+     */
+    public CompactProduct productAt(int ordinal) {
+        return columns.product(ordinal);
+    }
+
+    /**
+     * @return Produto com o id informado ou null se não estiver no catálogo
+     */
+    public CompactProduct findById(Long id) {
+        if (id == null) {
+            return null;
+        }
+        int index = byId.get(id);
+        return index != LongIntMap.MISSING ? columns.product(index) : null;
+    }
+
+    public TitleSuggestIndex getSuggestIndex() {
+        return suggestIndex;
+    }
+
+    /**
+     * Busca tolerante a erros de digitação por título e marca
+     *
+     * @param query Texto da busca (ex.: "samsng")
+     * @param limit Máximo de resultados
+     * @return Produtos mais próximos primeiro; empates ordenados por rating
+     */
+    public List<CompactProduct> search(String query, int limit) {
+        int[] ordinals = searchIndex.search(query, limit);
+        List<CompactProduct> result = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            result.add(columns.product(ranked[ordinal]));
+        }
+        return result;
+    }
+
+    /**
+     * Produtos mais parecidos por conteúdo, preço e rating
+     *
+     * @param id Produto de referência
+     * @param k Quantidade de recomendações
+     * @return Produtos similares ou null se o produto não estiver no catálogo
+     */
+    public List<CompactProduct> similar(Long id, int k) {
+        int ordinal = id != null ? rankedOrdinals.get(id) : LongIntMap.MISSING;
+        if (ordinal == LongIntMap.MISSING) {
+            return null;
+        }
+        int[] ordinals = similarityIndex.similar(ordinal, k);
+        List<CompactProduct> result = new ArrayList<>(ordinals.length);
+        for (int similar : ordinals) {
+            result.add(columns.product(ranked[similar]));
+        }
+        return result;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public int size() {
+        return columns.size();
+    }
+}
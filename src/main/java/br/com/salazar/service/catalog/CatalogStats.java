@@ -0,0 +1,254 @@
+package br.com.salazar.service.catalog;
+
+import br.com.salazar.model.dto.ProductGroupStatsDto;
+import br.com.salazar.model.money.Money;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Agregados do catálogo por categoria e por marca, mantidos incrementalmente
+ *
+ * Cada grupo guarda apenas acumuladores primitivos (contagem, somas, mínimo,
+ * máximo). Adicionar um produto custa O(1) e a leitura nunca percorre os
+ * produtos, só os grupos. Preços são acumulados em centavos ({@link Money}),
+ * sem erro de arredondamento na soma; se a soma exata estourar o long, a média
+ * passa a sair de uma soma em double em vez de falhar a leitura.
+ *
+ * Com um limite de grupos, chaves novas além do limite são somadas no grupo
+ * {@value #OTHER}, de modo que a memória e o custo de {@link #plus} não crescem
+ * com a quantidade de categorias e marcas distintas recebidas.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class CatalogStats {
+
+    static final String UNKNOWN = "unknown";
+    static final String OTHER = "other";
+
+    private final int maxGroups;
+    private final Accumulator overall = new Accumulator();
+    private final Map<String, Accumulator> byCategory = new ConcurrentHashMap<>();
+    private final Map<String, Accumulator> byBrand = new ConcurrentHashMap<>();
+
+    /**
+     * Agregados sem limite de grupos (snapshots carregados da API externa)
+     */
+    public CatalogStats() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Agregados com no máximo {@code maxGroups} categorias e marcas cada, mais o
+     * grupo {@value #OTHER}
+     */
+    public CatalogStats(int maxGroups) {
+        if (maxGroups < 1) {
+            throw new IllegalArgumentException("maxGroups must be positive");
+        }
+        this.maxGroups = maxGroups;
+    }
+
+    /**
+     * Constrói os agregados a partir das colunas de um snapshot recém-carregado
+     *
+     * Os grupos são resolvidos uma vez por código de dicionário, e não por produto.
+     */
+    public static CatalogStats of(CatalogColumns columns) {
+        CatalogStats stats = new CatalogStats();
+        Accumulator[] categories = new Accumulator[columns.categoryCount() + 1];
+        Accumulator[] brands = new Accumulator[columns.brandCount() + 1];
+
+        for (int i = 0; i < columns.size(); i++) {
+            // A coluna double veio de centavos exatos, então a volta para centavos é exata
+            boolean priced = !Double.isNaN(columns.price(i));
+            long priceMinor = priced ? Money.fromDouble(columns.price(i)) : 0L;
+            double rating = columns.rating(i);
+            long stock = columns.stock(i);
+
+            stats.overall.add(priced, priceMinor, rating, stock);
+            stats.group(categories, stats.byCategory, columns.categoryCode(i), columns::category)
+                    .add(priced, priceMinor, rating, stock);
+            stats.group(brands, stats.byBrand, columns.brandCode(i), columns::brand)
+                    .add(priced, priceMinor, rating, stock);
+        }
+        return stats;
+    }
+
+    // Posição 0 guarda o grupo "unknown" (CatalogColumns.NO_CODE)
+    private Accumulator group(Accumulator[] byCode, Map<String, Accumulator> groups, int code,
+                              IntFunction<String> dictionary) {
+        Accumulator accumulator = byCode[code + 1];
+        if (accumulator == null) {
+            String key = keyOf(code == CatalogColumns.NO_CODE ? null : dictionary.apply(code));
+            accumulator = groups.computeIfAbsent(key, k -> new Accumulator());
+            byCode[code + 1] = accumulator;
+        }
+        return accumulator;
+    }
+
+    /**
+     * Novos agregados com os grupos deste e de {@code other} somados
+     *
+     * Nenhum dos dois é alterado; o custo é proporcional à quantidade de grupos.
+     */
+    public CatalogStats plus(CatalogStats other) {
+        CatalogStats sum = new CatalogStats();
+        sum.addAll(this);
+        sum.addAll(other);
+        return sum;
+    }
+
+    private void addAll(CatalogStats source) {
+        overall.addAll(source.overall);
+        source.byCategory.forEach((key, accumulator) ->
+                byCategory.computeIfAbsent(key, k -> new Accumulator()).addAll(accumulator));
+        source.byBrand.forEach((key, accumulator) ->
+                byBrand.computeIfAbsent(key, k -> new Accumulator()).addAll(accumulator));
+    }
+
+    /**
+     * Acumula um produto (carga do catálogo ou produto recém-criado)
+     */
+    public void add(CompactProduct product) {
+        boolean priced = product.hasPrice();
+        long priceMinor = product.priceMinor();
+        double rating = product.rating();
+        long stock = product.stock();
+
+        overall.add(priced, priceMinor, rating, stock);
+        groupOf(byCategory, keyOf(product.category())).add(priced, priceMinor, rating, stock);
+        groupOf(byBrand, keyOf(product.brand())).add(priced, priceMinor, rating, stock);
+    }
+
+    // A checagem de tamanho não é atômica: escritas concorrentes podem passar do
+    // limite por poucos grupos, o que basta para mantê-lo limitado
+    private Accumulator groupOf(Map<String, Accumulator> groups, String key) {
+        Accumulator accumulator = groups.get(key);
+        if (accumulator != null) {
+            return accumulator;
+        }
+        if (groups.size() >= maxGroups) {
+            key = OTHER;
+        }
+        return groups.computeIfAbsent(key, k -> new Accumulator());
+    }
+
+    public ProductGroupStatsDto overall() {
+        return overall.toDto();
+    }
+
+    public Map<String, ProductGroupStatsDto> categories() {
+        return toDtos(byCategory);
+    }
+
+    public Map<String, ProductGroupStatsDto> brands() {
+        return toDtos(byBrand);
+    }
+
+    private static Map<String, ProductGroupStatsDto> toDtos(Map<String, Accumulator> groups) {
+        Map<String, ProductGroupStatsDto> result = new TreeMap<>();
+        groups.forEach((key, accumulator) -> result.put(key, accumulator.toDto()));
+        return result;
+    }
+
+    private static String keyOf(String value) {
+        return value == null || value.isBlank() ? UNKNOWN : value;
+    }
+
+    /**
+     * Acumuladores de um grupo; sincronizado para que a leitura seja consistente
+     */
+    static final class Accumulator {
+        private long count;
+        private long priceCount;
+        // Em centavos; exata enquanto couber no long
+        private long priceSum;
+        private boolean priceSumOverflow;
+        private double approxPriceSum;
+        private long minPrice = Long.MAX_VALUE;
+        private long maxPrice = Long.MIN_VALUE;
+        private long ratingCount;
+        private double ratingSum;
+        private long totalStock;
+
+        synchronized void add(boolean priced, long priceMinor, double rating, long stock) {
+            count++;
+            if (priced) {
+                priceCount++;
+                addPrices(priceMinor, priceMinor, false);
+                minPrice = Math.min(minPrice, priceMinor);
+                maxPrice = Math.max(maxPrice, priceMinor);
+            }
+            if (!Double.isNaN(rating)) {
+                ratingCount++;
+                ratingSum += rating;
+            }
+            totalStock += stock;
+        }
+
+        void addAll(Accumulator other) {
+            Accumulator copy = other.copy();
+            synchronized (this) {
+                count += copy.count;
+                priceCount += copy.priceCount;
+                addPrices(copy.priceSum, copy.approxPriceSum, copy.priceSumOverflow);
+                minPrice = Math.min(minPrice, copy.minPrice);
+                maxPrice = Math.max(maxPrice, copy.maxPrice);
+                ratingCount += copy.ratingCount;
+                ratingSum += copy.ratingSum;
+                totalStock += copy.totalStock;
+            }
+        }
+
+        // Chamado com o lock do acumulador
+        private void addPrices(long exact, double approx, boolean exactOverflowed) {
+            approxPriceSum += approx;
+            if (priceSumOverflow) {
+                return;
+            }
+            long sum = priceSum + exact;
+            // Estouro: os dois operandos têm o mesmo sinal e a soma tem o outro
+            if (exactOverflowed || ((priceSum ^ sum) & (exact ^ sum)) < 0) {
+                priceSumOverflow = true;
+            } else {
+                priceSum = sum;
+            }
+        }
+
+        private synchronized Accumulator copy() {
+            Accumulator copy = new Accumulator();
+            copy.count = count;
+            copy.priceCount = priceCount;
+            copy.priceSum = priceSum;
+            copy.priceSumOverflow = priceSumOverflow;
+            copy.approxPriceSum = approxPriceSum;
+            copy.minPrice = minPrice;
+            copy.maxPrice = maxPrice;
+            copy.ratingCount = ratingCount;
+            copy.ratingSum = ratingSum;
+            copy.totalStock = totalStock;
+            return copy;
+        }
+
+        synchronized ProductGroupStatsDto toDto() {
+            ProductGroupStatsDto dto = new ProductGroupStatsDto();
+            dto.setCount(count);
+            if (priceCount > 0) {
+                dto.setMinPrice(Money.toDouble(minPrice));
+                double sum = priceSumOverflow ? approxPriceSum / Money.MINOR_PER_UNIT : Money.toDouble(priceSum);
+                dto.setAvgPrice(sum / priceCount);
+                dto.setMaxPrice(Money.toDouble(maxPrice));
+            }
+            if (ratingCount > 0) {
+                dto.setAvgRating(ratingSum / ratingCount);
+            }
+            dto.setTotalStock(totalStock);
+            return dto;
+        }
+    }
+}
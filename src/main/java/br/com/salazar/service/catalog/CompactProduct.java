@@ -0,0 +1,147 @@
+package br.com.salazar.service.catalog;
+
+import br.com.salazar.model.dto.ProductDto;
+import br.com.salazar.model.money.Money;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Vista de um produto do catálogo em memória: as colunas e um ordinal
+ *
+ * Os campos não ficam aqui, e sim em {@link CatalogColumns}, a única cópia do
+ * catálogo; cada acessor lê a posição do produto nas colunas. A vista é criada
+ * sob demanda (o snapshot não guarda um objeto por produto) e pode ser
+ * descartada logo depois, como nas respostas que só chamam {@link #toDto()}.
+ *
+ * O preço é guardado em centavos exatos ({@link Money}), então somas e
+ * comparações de preço são exatas. Cache, índices e agregados trabalham com
+ * esta classe; a conversão para ProductDto acontece apenas na borda da API.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class CompactProduct {
+
+    private final CatalogColumns columns;
+    private final int ordinal;
+
+    CompactProduct(CatalogColumns columns, int ordinal) {
+        this.columns = columns;
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * Converte um DTO avulso (ex.: produto recém-criado) em colunas de um produto só
+     *
+     * @throws ArithmeticException Se o preço não couber em centavos
+     */
+    public static CompactProduct of(ProductDto dto) {
+        CatalogColumns.Builder builder = CatalogColumns.builder();
+        builder.add(dto);
+        return builder.build().product(0);
+    }
+
+    /**
+     * Cria um novo ProductDto para a resposta da API (a lista de imagens é uma cópia)
+     */
+    public ProductDto toDto() {
+        ProductDto dto = new ProductDto();
+        dto.setId(hasId() ? id() : null);
+        dto.setTitle(title());
+        dto.setDescription(description());
+        dto.setPrice(hasPrice() ? price() : null);
+        dto.setDiscountPercentage(Double.isNaN(discountPercentage()) ? null : discountPercentage());
+        dto.setRating(Double.isNaN(rating()) ? null : rating());
+        dto.setStock(columns.has(ordinal, CatalogColumns.NO_STOCK) ? stock() : null);
+        dto.setBrand(brand());
+        dto.setCategory(category());
+        dto.setThumbnail(thumbnail());
+        if (columns.has(ordinal, CatalogColumns.NO_IMAGES)) {
+            List<String> images = new ArrayList<>(imageCount());
+            for (int i = 0; i < imageCount(); i++) {
+                images.add(image(i));
+            }
+            dto.setImages(images);
+        }
+        return dto;
+    }
+
+    CatalogColumns columns() {
+        return columns;
+    }
+
+    /** Posição do produto nas colunas */
+    public int ordinal() {
+        return ordinal;
+    }
+
+    public boolean hasId() {
+        return columns.has(ordinal, CatalogColumns.NO_ID);
+    }
+
+    /** Id do produto; 0 quando ausente (ver {@link #hasId()}) */
+    public long id() {
+        return columns.id(ordinal);
+    }
+
+    public boolean hasPrice() {
+        return !Double.isNaN(columns.price(ordinal));
+    }
+
+    /** Preço em centavos; 0 quando ausente (ver {@link #hasPrice()}) */
+    public long priceMinor() {
+        return hasPrice() ? Money.fromDouble(columns.price(ordinal)) : 0L;
+    }
+
+    /** Preço; NaN quando ausente */
+    public double price() {
+        return columns.price(ordinal);
+    }
+
+    /** Desconto percentual; NaN quando ausente */
+    public double discountPercentage() {
+        return columns.discount(ordinal);
+    }
+
+    /** Rating; NaN quando ausente */
+    public double rating() {
+        return columns.rating(ordinal);
+    }
+
+    /** Estoque; 0 quando ausente */
+    public int stock() {
+        return columns.stock(ordinal);
+    }
+
+    public String title() {
+        return columns.title(ordinal);
+    }
+
+    public String description() {
+        return columns.description(ordinal);
+    }
+
+    public String brand() {
+        int code = columns.brandCode(ordinal);
+        return code == CatalogColumns.NO_CODE ? null : columns.brand(code);
+    }
+
+    public String category() {
+        int code = columns.categoryCode(ordinal);
+        return code == CatalogColumns.NO_CODE ? null : columns.category(code);
+    }
+
+    public String thumbnail() {
+        return columns.thumbnail(ordinal);
+    }
+
+    public int imageCount() {
+        return columns.imageCount(ordinal);
+    }
+
+    public String image(int index) {
+        return columns.image(ordinal, index);
+    }
+}
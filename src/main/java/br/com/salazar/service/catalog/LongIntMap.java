@@ -0,0 +1,67 @@
+package br.com.salazar.service.catalog;
+
+import java.util.Arrays;
+
+/**
+ * Mapa long -> int com endereçamento aberto, sem boxing de chaves e valores
+ *
+ * Usado para os índices id -> ordinal do snapshot. É preenchido uma única vez
+ * durante a construção do snapshot e depois apenas lido.
+ */
+final class LongIntMap {
+
+    static final int MISSING = -1;
+
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+    private int size;
+
+    LongIntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(values, MISSING);
+    }
+
+    /**
+     * Associa o valor à chave, substituindo o anterior
+     *
+     * @param value Valor não negativo
+     */
+    void put(long key, int value) {
+        int slot = slot(key);
+        while (values[slot] != MISSING && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (values[slot] == MISSING) {
+            size++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    /**
+     * @return Valor associado ou {@link #MISSING}
+     */
+    int get(long key) {
+        int slot = slot(key);
+        while (values[slot] != MISSING) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.salazar.service.catalog;
+
+/**
+ * Cálculos de preço sobre as colunas primitivas do catálogo
+ *
+ * Há duas implementações com resultados equivalentes:
+ * - {@link VectorPriceKernels}: SIMD via jdk.incubator.vector, usada quando a JVM
+ *   é iniciada com --add-modules jdk.incubator.vector
+ * - {@link ScalarPriceKernels}: laços simples, usada quando o módulo não está presente
+ *
+ * Convenções das colunas: preço ausente é NaN, desconto ausente (NaN) vale 0,
+ * estoque ausente é 0. Preço final = preço * (1 - desconto / 100).
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public interface PriceKernels {
+
+    /**
+     * Implementação escolhida para esta JVM (resolvida uma única vez)
+     */
+    static PriceKernels best() {
+        return Holder.BEST;
+    }
+
+    /**
+     * Nome da implementação, para logs e diagnóstico
+     */
+    String name();
+
+    /**
+     * Preço final de cada produto; produtos sem preço ficam com NaN
+     *
+     * @param out Array de saída com pelo menos prices.length posições
+     */
+    void finalPrices(double[] prices, double[] discounts, double[] out);
+
+    /**
+     * Totais de inventário, ignorando produtos sem preço
+     */
+    Totals totals(double[] prices, double[] finalPrices, int[] stocks);
+
+    /**
+     * Histograma de preços finais em faixas de largura fixa
+     *
+     * A faixa de um preço é floor(preço / largura); o último bucket acumula
+     * todos os preços acima do limite. Preços NaN são ignorados.
+     *
+     * @param counts Contadores (um por faixa), incrementados pela chamada
+     */
+    void histogram(double[] finalPrices, double bucketWidth, long[] counts);
+
+    /**
+     * @param pricedCount Produtos com preço
+     * @param inventoryValue Soma de preço * estoque
+     * @param discountedInventoryValue Soma de preço final * estoque
+     * @param finalPriceSum Soma dos preços finais (para a média)
+     */
+    record Totals(long pricedCount, double inventoryValue, double discountedInventoryValue, double finalPriceSum) {
+    }
+
+    final class Holder {
+        static final PriceKernels BEST = detect();
+
+        private Holder() {
+        }
+
+        // A classe vetorial só é carregada se o módulo incubator estiver na camada de boot
+        private static PriceKernels detect() {
+            if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+                try {
+                    return (PriceKernels) Class.forName("br.com.salazar.service.catalog.VectorPriceKernels")
+                            .getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException | LinkageError e) {
+                    return new ScalarPriceKernels();
+                }
+            }
+            return new ScalarPriceKernels();
+        }
+    }
+}
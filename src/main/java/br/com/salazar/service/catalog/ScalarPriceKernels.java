@@ -0,0 +1,49 @@
+package br.com.salazar.service.catalog;
+
+/**
+ * Implementação escalar dos cálculos de preço (fallback sem o módulo de vetores)
+ */
+public final class ScalarPriceKernels implements PriceKernels {
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public void finalPrices(double[] prices, double[] discounts, double[] out) {
+        for (int i = 0; i < prices.length; i++) {
+            double discount = Double.isNaN(discounts[i]) ? 0.0 : discounts[i];
+            out[i] = prices[i] * (1.0 - discount * 0.01);
+        }
+    }
+
+    @Override
+    public Totals totals(double[] prices, double[] finalPrices, int[] stocks) {
+        long pricedCount = 0;
+        double inventoryValue = 0;
+        double discountedInventoryValue = 0;
+        double finalPriceSum = 0;
+        for (int i = 0; i < prices.length; i++) {
+            if (Double.isNaN(prices[i])) {
+                continue;
+            }
+            pricedCount++;
+            inventoryValue += prices[i] * stocks[i];
+            discountedInventoryValue += finalPrices[i] * stocks[i];
+            finalPriceSum += finalPrices[i];
+        }
+        return new Totals(pricedCount, inventoryValue, discountedInventoryValue, finalPriceSum);
+    }
+
+    @Override
+    public void histogram(double[] finalPrices, double bucketWidth, long[] counts) {
+        double scale = 1.0 / bucketWidth;
+        int last = counts.length - 1;
+        for (double price : finalPrices) {
+            if (!Double.isNaN(price)) {
+                counts[(int) Math.min(last, Math.max(0.0, price * scale))]++;
+            }
+        }
+    }
+}
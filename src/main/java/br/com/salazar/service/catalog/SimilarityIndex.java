@@ -0,0 +1,280 @@
+package br.com.salazar.service.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Vetores de conteúdo pré-computados para recomendação de produtos similares
+ *
+ * Cada produto vira um vetor denso e normalizado com:
+ * - TF-IDF de título, descrição e categoria, projetado em {@link #TEXT_DIMENSIONS}
+ *   posições por hashing (o vocabulário não cresce com o catálogo)
+ * - Preço (escala logarítmica) e rating normalizados para [0, 1]
+ *
+ * Todos os vetores ficam em um único float[] contíguo. A busca é uma varredura
+ * força-bruta por produto escalar, dividida em blocos processados em paralelo.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class SimilarityIndex {
+
+    static final int TEXT_DIMENSIONS = 128;
+    static final int DIMENSIONS = TEXT_DIMENSIONS + 2;
+    static final int BLOCK_SIZE = 4096;
+
+    private static final float CATEGORY_BOOST = 2.0f;
+    private static final float PRICE_WEIGHT = 0.35f;
+    private static final float RATING_WEIGHT = 0.25f;
+
+    private final float[] vectors;
+    private final int size;
+
+    private SimilarityIndex(float[] vectors, int size) {
+        this.vectors = vectors;
+        this.size = size;
+    }
+
+    /**
+     * Constrói os vetores
+     *
+     * @param documents Conteúdo de cada produto, na mesma ordem dos ordinais do snapshot
+     * @return Índice imutável
+     */
+    public static SimilarityIndex build(List<Document> documents) {
+        int n = documents.size();
+        List<Map<String, Float>> termFrequencies = new ArrayList<>(n);
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        double minPrice = Double.POSITIVE_INFINITY;
+        double maxPrice = Double.NEGATIVE_INFINITY;
+
+        for (Document document : documents) {
+            Map<String, Float> tf = new HashMap<>();
+            addTokens(tf, document.title(), 1.0f);
+            addTokens(tf, document.description(), 1.0f);
+            String category = TitleSuggestIndex.fold(document.category());
+            if (!category.isEmpty()) {
+                tf.merge("category:" + category, CATEGORY_BOOST, Float::sum);
+            }
+            termFrequencies.add(tf);
+            for (String term : tf.keySet()) {
+                documentFrequency.merge(term, 1, Integer::sum);
+            }
+            if (!Double.isNaN(document.price()) && document.price() > 0) {
+                double logPrice = Math.log1p(document.price());
+                minPrice = Math.min(minPrice, logPrice);
+                maxPrice = Math.max(maxPrice, logPrice);
+            }
+        }
+
+        float[] vectors = new float[n * DIMENSIONS];
+        double priceRange = maxPrice > minPrice ? maxPrice - minPrice : 1.0;
+        for (int p = 0; p < n; p++) {
+            int base = p * DIMENSIONS;
+            float textNorm = 0;
+            for (Map.Entry<String, Float> entry : termFrequencies.get(p).entrySet()) {
+                double idf = Math.log((n + 1.0) / (documentFrequency.get(entry.getKey()) + 1.0)) + 1.0;
+                float weight = (float) ((1.0 + Math.log(entry.getValue())) * idf);
+                int hash = entry.getKey().hashCode();
+                int slot = Math.floorMod(hash, TEXT_DIMENSIONS);
+                // Sinal derivado do hash reduz o viés das colisões
+                vectors[base + slot] += (hash & 0x80000) == 0 ? weight : -weight;
+            }
+            for (int d = 0; d < TEXT_DIMENSIONS; d++) {
+                textNorm += vectors[base + d] * vectors[base + d];
+            }
+            if (textNorm > 0) {
+                float scale = (float) (1.0 / Math.sqrt(textNorm));
+                for (int d = 0; d < TEXT_DIMENSIONS; d++) {
+                    vectors[base + d] *= scale;
+                }
+            }
+
+            Document document = documents.get(p);
+            if (!Double.isNaN(document.price()) && document.price() > 0) {
+                vectors[base + TEXT_DIMENSIONS] =
+                        PRICE_WEIGHT * (float) ((Math.log1p(document.price()) - minPrice) / priceRange);
+            }
+            if (!Double.isNaN(document.rating())) {
+                vectors[base + TEXT_DIMENSIONS + 1] = RATING_WEIGHT * (float) (document.rating() / 5.0);
+            }
+            normalize(vectors, base);
+        }
+        return new SimilarityIndex(vectors, n);
+    }
+
+    /**
+     * Os k produtos mais similares (cosseno) ao produto informado, sem incluí-lo
+     *
+     * @param ordinal Ordinal do produto de referência
+     * @param k Quantidade de resultados; limitada ao tamanho do catálogo menos o próprio produto
+     * @return Ordinais do mais similar ao menos similar
+     */
+    public int[] similar(int ordinal, int k) {
+        int limit = Math.min(k, size - 1);
+        if (ordinal < 0 || ordinal >= size || limit <= 0) {
+            return new int[0];
+        }
+        int blocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        IntStream range = IntStream.range(0, blocks);
+        if (blocks > 1) {
+            range = range.parallel();
+        }
+        // Cada bloco produz o seu próprio TopK, então o merge pode alterar o operando da esquerda
+        return range
+                .mapToObj(block -> scanBlock(ordinal, limit, block * BLOCK_SIZE, Math.min(size, (block + 1) * BLOCK_SIZE)))
+                .reduce(TopK::merge)
+                .map(TopK::sortedOrdinals)
+                .orElse(new int[0]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private TopK scanBlock(int ordinal, int k, int from, int to) {
+        TopK top = new TopK(k);
+        int query = ordinal * DIMENSIONS;
+        for (int p = from; p < to; p++) {
+            if (p == ordinal) {
+                continue;
+            }
+            top.offer(p, dot(query, p * DIMENSIONS));
+        }
+        return top;
+    }
+
+    private float dot(int a, int b) {
+        float sum = 0;
+        for (int d = 0; d < DIMENSIONS; d++) {
+            sum += vectors[a + d] * vectors[b + d];
+        }
+        return sum;
+    }
+
+    private static void addTokens(Map<String, Float> tf, String text, float weight) {
+        String folded = TitleSuggestIndex.fold(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean letter = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                if (i - start >= 2) {
+                    tf.merge(folded.substring(start, i), weight, Float::sum);
+                }
+                start = -1;
+            }
+        }
+    }
+
+    private static void normalize(float[] vectors, int base) {
+        float norm = 0;
+        for (int d = 0; d < DIMENSIONS; d++) {
+            norm += vectors[base + d] * vectors[base + d];
+        }
+        if (norm > 0) {
+            float scale = (float) (1.0 / Math.sqrt(norm));
+            for (int d = 0; d < DIMENSIONS; d++) {
+                vectors[base + d] *= scale;
+            }
+        }
+    }
+
+    /**
+     * Conteúdo de um produto usado na vetorização
+     */
+    public record Document(String title, String description, String category, double price, double rating) {
+    }
+
+    /**
+     * Min-heap de tamanho fixo com os k maiores scores
+     */
+    private static final class TopK {
+        private final int[] ordinals;
+        private final float[] scores;
+        private int size;
+
+        TopK(int k) {
+            this.ordinals = new int[k];
+            this.scores = new float[k];
+        }
+
+        void offer(int ordinal, float score) {
+            if (size < scores.length) {
+                ordinals[size] = ordinal;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (score > scores[0]) {
+                ordinals[0] = ordinal;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        TopK merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.ordinals[i], other.scores[i]);
+            }
+            return this;
+        }
+
+        int[] sortedOrdinals() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> scores[a] != scores[b]
+                    ? Float.compare(scores[b], scores[a])
+                    : Integer.compare(ordinals[a], ordinals[b]));
+            int[] result = new int[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = ordinals[order[i]];
+            }
+            return result;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (scores[i] >= scores[parent]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int smallest = i;
+                if (left < size && scores[left] < scores[smallest]) {
+                    smallest = left;
+                }
+                if (left + 1 < size && scores[left + 1] < scores[smallest]) {
+                    smallest = left + 1;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int ordinal = ordinals[a];
+            ordinals[a] = ordinals[b];
+            ordinals[b] = ordinal;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package br.com.salazar.service.catalog;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Trie compacto de prefixos de títulos para o autocomplete de produtos
+ *
+ * O índice é construído uma única vez a partir do snapshot do catálogo:
+ * - Títulos são normalizados (minúsculas, sem acentos, espaços colapsados)
+ * - São indexados o início do título e o início de cada palavra
+ * - Cada nó guarda os top-K produtos do seu prefixo, já ordenados por rating
+ *
+ * Depois de construído o índice é imutável e pode ser lido por várias threads.
+ * A consulta percorre arrays primitivos e aloca apenas a lista de resultado.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class TitleSuggestIndex {
+
+    /** Profundidade máxima indexada; prefixos maiores caem na busca linear */
+    static final int MAX_DEPTH = 24;
+
+    private static final int FOLD_TABLE_SIZE = 0x250;
+    private static final char[] FOLD = buildFoldTable();
+
+    private final int k;
+    private final String[] titles;
+    private final String[] foldedTitles;
+
+    // Nó n possui filhos em [childStart[n], childStart[n + 1]) de edgeChars/edgeTargets
+    private final int[] childStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+
+    // Nó n possui sugestões em [topStart[n], topStart[n + 1]) de top
+    private final int[] topStart;
+    private final int[] top;
+
+    private TitleSuggestIndex(int k, String[] titles, String[] foldedTitles, int[] childStart,
+                              char[] edgeChars, int[] edgeTargets, int[] topStart, int[] top) {
+        this.k = k;
+        this.titles = titles;
+        this.foldedTitles = foldedTitles;
+        this.childStart = childStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.topStart = topStart;
+        this.top = top;
+    }
+
+    /**
+     * Constrói o índice
+     *
+     * @param rankedTitles Títulos já ordenados por relevância (melhor rating primeiro)
+     * @param k Quantidade de sugestões pré-computadas por nó
+     * @return Índice imutável
+     */
+    public static TitleSuggestIndex build(List<String> rankedTitles, int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k deve ser positivo");
+        }
+        int n = rankedTitles.size();
+        String[] titles = rankedTitles.toArray(new String[0]);
+        String[] folded = new String[n];
+
+        BuildNode root = new BuildNode();
+        int nodeCount = 1;
+        for (int p = 0; p < n; p++) {
+            folded[p] = fold(titles[p]);
+            String f = folded[p];
+            for (int start = 0; start < f.length(); start++) {
+                if (start > 0 && f.charAt(start - 1) != ' ') {
+                    continue;
+                }
+                if (f.charAt(start) == ' ') {
+                    continue;
+                }
+                root.offer(p, k);
+                BuildNode node = root;
+                int end = Math.min(f.length(), start + MAX_DEPTH);
+                for (int i = start; i < end; i++) {
+                    BuildNode child = node.children.get(f.charAt(i));
+                    if (child == null) {
+                        child = new BuildNode();
+                        node.children.put(f.charAt(i), child);
+                        nodeCount++;
+                    }
+                    child.offer(p, k);
+                    node = child;
+                }
+            }
+        }
+
+        // Numeração em largura: os filhos de cada nó ficam contíguos nos arrays de arestas
+        int[] childStart = new int[nodeCount + 1];
+        char[] edgeChars = new char[nodeCount - 1];
+        int[] edgeTargets = new int[nodeCount - 1];
+        int[] topStart = new int[nodeCount + 1];
+        int topSize = 0;
+        BuildNode[] ordered = new BuildNode[nodeCount];
+        ArrayDeque<BuildNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        int nextId = 1;
+        int edge = 0;
+        for (int id = 0; id < nodeCount; id++) {
+            BuildNode node = queue.poll();
+            ordered[id] = node;
+            childStart[id] = edge;
+            topSize += node.topSize;
+            for (var entry : node.children.entrySet()) {
+                edgeChars[edge] = entry.getKey();
+                edgeTargets[edge] = nextId++;
+                edge++;
+                queue.add(entry.getValue());
+            }
+        }
+        childStart[nodeCount] = edge;
+
+        int[] top = new int[topSize];
+        int pos = 0;
+        for (int id = 0; id < nodeCount; id++) {
+            topStart[id] = pos;
+            System.arraycopy(ordered[id].top, 0, top, pos, ordered[id].topSize);
+            pos += ordered[id].topSize;
+        }
+        topStart[nodeCount] = pos;
+
+        return new TitleSuggestIndex(k, titles, folded, childStart, edgeChars, edgeTargets, topStart, top);
+    }
+
+    /**
+     * Retorna os títulos mais bem avaliados que começam com o prefixo
+     * (no início do título ou de qualquer palavra)
+     *
+     * @param prefix Texto digitado pelo usuário
+     * @param limit Máximo de sugestões (limitado a k)
+     * @return Lista imutável de títulos
+     */
+    public List<String> suggest(String prefix, int limit) {
+        int max = Math.min(limit, k);
+        if (prefix == null || max <= 0) {
+            return Collections.emptyList();
+        }
+
+        int node = 0;
+        int depth = 0;
+        char previous = ' ';
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = foldChar(prefix.charAt(i));
+            if (c == 0 || (c == ' ' && previous == ' ')) {
+                continue;
+            }
+            if (depth == MAX_DEPTH) {
+                return scan(prefix, max);
+            }
+            node = child(node, c);
+            if (node < 0) {
+                return Collections.emptyList();
+            }
+            previous = c;
+            depth++;
+        }
+
+        int from = topStart[node];
+        int count = Math.min(max, topStart[node + 1] - from);
+        String[] result = new String[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = titles[top[from + i]];
+        }
+        return Arrays.asList(result);
+    }
+
+    public int size() {
+        return titles.length;
+    }
+
+    /**
+     * Normaliza um texto para comparação: minúsculas, sem acentos e com espaços colapsados
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        char previous = ' ';
+        for (int i = 0; i < text.length(); i++) {
+            char c = foldChar(text.charAt(i));
+            if (c == 0 || (c == ' ' && previous == ' ')) {
+                continue;
+            }
+            sb.append(c);
+            previous = c;
+        }
+        int len = sb.length();
+        if (len > 0 && sb.charAt(len - 1) == ' ') {
+            sb.setLength(len - 1);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Normaliza um único caractere; retorna 0 para marcas de acento isoladas
+     */
+    public static char foldChar(char c) {
+        if (c < FOLD_TABLE_SIZE) {
+            return FOLD[c];
+        }
+        if (Character.isWhitespace(c)) {
+            return ' ';
+        }
+        if (Character.getType(c) == Character.NON_SPACING_MARK) {
+            return 0;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    private int child(int node, char c) {
+        int lo = childStart[node];
+        int hi = childStart[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char m = edgeChars[mid];
+            if (m < c) {
+                lo = mid + 1;
+            } else if (m > c) {
+                hi = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    // Prefixos maiores que MAX_DEPTH: varredura na ordem de rating (caso raro)
+    private List<String> scan(String prefix, int max) {
+        String foldedPrefix = fold(prefix);
+        List<String> result = new ArrayList<>(max);
+        for (int p = 0; p < foldedTitles.length && result.size() < max; p++) {
+            String f = foldedTitles[p];
+            int at = f.indexOf(foldedPrefix);
+            while (at > 0 && f.charAt(at - 1) != ' ') {
+                at = f.indexOf(foldedPrefix, at + 1);
+            }
+            if (at >= 0) {
+                result.add(titles[p]);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static char[] buildFoldTable() {
+        char[] table = new char[FOLD_TABLE_SIZE];
+        for (int c = 0; c < FOLD_TABLE_SIZE; c++) {
+            char ch = (char) c;
+            if (Character.isWhitespace(ch)) {
+                table[c] = ' ';
+                continue;
+            }
+            String decomposed = Normalizer.normalize(String.valueOf(ch), Normalizer.Form.NFD);
+            char base = decomposed.charAt(0);
+            table[c] = Character.getType(base) == Character.NON_SPACING_MARK ? 0 : Character.toLowerCase(base);
+        }
+        return table;
+    }
+
+    private static final class BuildNode {
+        final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        int[] top = new int[1];
+        int topSize;
+        int lastProduct = -1;
+
+        // Produtos chegam em ordem de rating, então os k primeiros distintos são o top-K
+        void offer(int product, int k) {
+            if (lastProduct == product || topSize == k) {
+                return;
+            }
+            lastProduct = product;
+            if (topSize == top.length) {
+                top = Arrays.copyOf(top, Math.min(k, top.length * 2));
+            }
+            top[topSize++] = product;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package br.com.salazar.service.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Índice de trigramas para busca tolerante a erros de digitação
+ *
+ * Cada produto é representado pelas palavras normalizadas do título e da marca.
+ * A busca acontece em duas fases:
+ * - Filtro: trigramas da consulta selecionam candidatos com sobreposição mínima
+ * - Verificação: distância de Levenshtein limitada contra cada palavra do candidato
+ *
+ * Conjuntos grandes de candidatos são verificados em paralelo.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class TrigramIndex {
+
+    /** A partir deste número de candidatos a verificação roda em paralelo */
+    static final int PARALLEL_THRESHOLD = 2048;
+
+    private static final char PAD = '$';
+    private static final int[] EMPTY = new int[0];
+
+    private final String[][] terms;
+    private final Map<Long, int[]> postings;
+
+    private TrigramIndex(String[][] terms, Map<Long, int[]> postings) {
+        this.terms = terms;
+        this.postings = postings;
+    }
+
+    /**
+     * Constrói o índice
+     *
+     * @param texts Textos de cada produto (ex.: título e marca), na ordem de relevância
+     * @return Índice imutável
+     */
+    public static TrigramIndex build(List<String[]> texts) {
+        int n = texts.size();
+        String[][] terms = new String[n][];
+        Map<Long, IntList> building = new HashMap<>();
+
+        for (int p = 0; p < n; p++) {
+            List<String> words = new ArrayList<>();
+            for (String text : texts.get(p)) {
+                String folded = TitleSuggestIndex.fold(text);
+                if (!folded.isEmpty()) {
+                    for (String word : folded.split(" ")) {
+                        if (!words.contains(word)) {
+                            words.add(word);
+                        }
+                    }
+                }
+            }
+            terms[p] = words.toArray(new String[0]);
+            for (String word : terms[p]) {
+                for (long gram : grams(word)) {
+                    building.computeIfAbsent(gram, g -> new IntList()).addDistinct(p);
+                }
+            }
+        }
+
+        Map<Long, int[]> postings = new HashMap<>(building.size() * 2);
+        building.forEach((gram, list) -> postings.put(gram, list.toArray()));
+        return new TrigramIndex(terms, postings);
+    }
+
+    /**
+     * Busca aproximada: todas as palavras da consulta precisam casar com alguma
+     * palavra do produto dentro da distância tolerada
+     *
+     * @param query Texto digitado (ex.: "samsng")
+     * @param limit Máximo de resultados
+     * @return Ordinais dos produtos, do mais próximo ao mais distante
+     */
+    public int[] search(String query, int limit) {
+        String folded = TitleSuggestIndex.fold(query);
+        if (folded.isEmpty() || limit <= 0 || terms.length == 0) {
+            return EMPTY;
+        }
+
+        // distances[p] = soma das distâncias de cada palavra da consulta, -1 = descartado
+        int[] distances = null;
+        for (String word : folded.split(" ")) {
+            int[] wordDistances = matchWord(word);
+            if (distances == null) {
+                distances = wordDistances;
+            } else {
+                for (int p = 0; p < distances.length; p++) {
+                    distances[p] = distances[p] < 0 || wordDistances[p] < 0 ? -1 : distances[p] + wordDistances[p];
+                }
+            }
+        }
+
+        // Ordinais já estão em ordem de relevância; a ordenação por distância é estável
+        int maxDistance = 0;
+        int matches = 0;
+        for (int d : distances) {
+            if (d >= 0) {
+                matches++;
+                maxDistance = Math.max(maxDistance, d);
+            }
+        }
+        int[] result = new int[Math.min(limit, matches)];
+        int filled = 0;
+        for (int target = 0; target <= maxDistance && filled < result.length; target++) {
+            for (int p = 0; p < distances.length && filled < result.length; p++) {
+                if (distances[p] == target) {
+                    result[filled++] = p;
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    private int[] matchWord(String word) {
+        int n = terms.length;
+        int maxDistance = maxDistance(word.length());
+        long[] queryGrams = Arrays.stream(grams(word)).distinct().toArray();
+        int threshold = Math.max(1, queryGrams.length - 3 * maxDistance);
+
+        // Fase 1: contagem de trigramas compartilhados
+        int[] shared = new int[n];
+        for (long gram : queryGrams) {
+            for (int p : postings.getOrDefault(gram, EMPTY)) {
+                shared[p]++;
+            }
+        }
+        IntList candidates = new IntList();
+        for (int p = 0; p < n; p++) {
+            if (shared[p] >= threshold) {
+                candidates.add(p);
+            }
+        }
+
+        // Fase 2: verificação por Levenshtein limitado (reaproveita o array de contagem)
+        int[] distances = shared;
+        Arrays.fill(distances, -1);
+        IntStream stream = IntStream.of(candidates.toArray());
+        if (candidates.size() >= PARALLEL_THRESHOLD) {
+            stream = stream.parallel();
+        }
+        stream.forEach(p -> distances[p] = bestDistance(word, terms[p], maxDistance));
+        return distances;
+    }
+
+    private static int bestDistance(String word, String[] productTerms, int maxDistance) {
+        int best = -1;
+        for (String term : productTerms) {
+            int d = boundedLevenshtein(word, term, maxDistance);
+            if (d >= 0 && (best < 0 || d < best)) {
+                best = d;
+                if (best == 0) {
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Distância de Levenshtein com corte antecipado
+     *
+     * @return Distância entre as palavras ou -1 se ela ultrapassar o limite
+     */
+    static int boundedLevenshtein(String a, String b, int max) {
+        int la = a.length();
+        int lb = b.length();
+        if (Math.abs(la - lb) > max) {
+            return -1;
+        }
+        int[] previous = new int[lb + 1];
+        int[] current = new int[lb + 1];
+        for (int j = 0; j <= lb; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= la; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= lb; j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return -1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[lb] <= max ? previous[lb] : -1;
+    }
+
+    // Palavras curtas precisam casar exatamente; as longas toleram mais erros
+    static int maxDistance(int length) {
+        if (length <= 3) {
+            return 0;
+        }
+        return length <= 6 ? 1 : 2;
+    }
+
+    // Trigramas com marcador de início/fim: "$sa", "sam", ..., "ng$"
+    private static long[] grams(String word) {
+        String padded = PAD + word + PAD;
+        long[] grams = new long[Math.max(1, padded.length() - 2)];
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        }
+        return grams;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        // Postings são construídas em ordem crescente, então basta olhar o último
+        void addDistinct(int value) {
+            if (size == 0 || values[size - 1] != value) {
+                add(value);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
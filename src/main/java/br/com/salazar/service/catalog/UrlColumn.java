@@ -0,0 +1,169 @@
+package br.com.salazar.service.catalog;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Coluna das URLs de thumbnail e imagens do catálogo, com os trechos repetidos em dicionário
+ *
+ * Cada URL é separada em três partes, guardadas por código ou por referência:
+ * <pre>
+ * https://cdn.dummyjson.com/products/images/beauty/ | Essence%20Mascara%20Lash%20Princess/ | 1.png
+ * prefixo (dicionário)                               | diretório do produto                  | arquivo (dicionário)
+ * </pre>
+ * O prefixo (CDN + categoria) é o mesmo para dezenas de produtos e o nome do
+ * arquivo (thumbnail.png, 1.png...) para quase todos, então os dois viram
+ * códigos int. O diretório é único por produto, mas é uma única instância
+ * compartilhada pelo thumbnail e por todas as imagens do produto. Por URL
+ * sobram 12 bytes (dois códigos e uma referência), em vez de uma String com a
+ * URL inteira.
+ *
+ * Em troca, {@link #url(int, int)} concatena uma String nova a cada chamada;
+ * só a conversão para a resposta da API lê as URLs.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class UrlColumn {
+
+    // Thumbnail ausente
+    private static final int NO_URL = -1;
+
+    private final String[] prefixes;
+    private final String[] files;
+    // Produto i: URLs de starts[i] até starts[i + 1]; a primeira é o thumbnail
+    private final int[] starts;
+    private final int[] prefixCodes;
+    private final String[] directories;
+    private final int[] fileCodes;
+
+    private UrlColumn(Builder builder) {
+        this.prefixes = Builder.decode(builder.prefixDictionary);
+        this.files = Builder.decode(builder.fileDictionary);
+        this.starts = Arrays.copyOf(builder.starts, builder.rows + 1);
+        this.prefixCodes = Arrays.copyOf(builder.prefixCodes, builder.count);
+        this.directories = Arrays.copyOf(builder.directories, builder.count);
+        this.fileCodes = Arrays.copyOf(builder.fileCodes, builder.count);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Quantidade de URLs do produto, contando o thumbnail
+     */
+    public int count(int row) {
+        return starts[row + 1] - starts[row];
+    }
+
+    /**
+     * @param index 0 para o thumbnail, 1.. para as imagens
+     * @return URL reconstruída ou null se ausente
+     */
+    public String url(int row, int index) {
+        int position = starts[row] + index;
+        int prefix = prefixCodes[position];
+        if (prefix == NO_URL) {
+            return null;
+        }
+        return prefixes[prefix].concat(directories[position]).concat(files[fileCodes[position]]);
+    }
+
+    /**
+     * Quantidade de prefixos distintos no dicionário
+     */
+    public int prefixCount() {
+        return prefixes.length;
+    }
+
+    public int rows() {
+        return starts.length - 1;
+    }
+
+    /**
+     * Acumula as URLs produto a produto; não é thread-safe
+     */
+    public static final class Builder {
+
+        private int rows;
+        private int count;
+        private int[] starts = new int[17];
+        private int[] prefixCodes = new int[64];
+        private String[] directories = new String[64];
+        private int[] fileCodes = new int[64];
+        private final Map<String, Integer> prefixDictionary = new HashMap<>();
+        private final Map<String, Integer> fileDictionary = new HashMap<>();
+        // Diretório da URL anterior do mesmo produto, para reaproveitar a instância
+        private String lastDirectory;
+
+        private Builder() {
+        }
+
+        /**
+         * Adiciona uma URL ao produto corrente (null para thumbnail ausente)
+         */
+        public void add(String url) {
+            if (count == prefixCodes.length) {
+                int capacity = count * 2;
+                prefixCodes = Arrays.copyOf(prefixCodes, capacity);
+                directories = Arrays.copyOf(directories, capacity);
+                fileCodes = Arrays.copyOf(fileCodes, capacity);
+            }
+            if (url == null) {
+                prefixCodes[count] = NO_URL;
+                count++;
+                return;
+            }
+
+            // prefixo = até a penúltima '/', diretório = até a última, arquivo = o resto
+            int fileStart = url.lastIndexOf('/') + 1;
+            int directoryStart = fileStart > 0 ? url.lastIndexOf('/', fileStart - 2) + 1 : 0;
+            String prefix = url.substring(0, directoryStart);
+            String file = url.substring(fileStart);
+            String directory = url.substring(directoryStart, fileStart);
+            if (directory.equals(lastDirectory)) {
+                directory = lastDirectory;
+            }
+            lastDirectory = directory;
+
+            prefixCodes[count] = encode(prefixDictionary, prefix);
+            directories[count] = directory;
+            fileCodes[count] = encode(fileDictionary, file);
+            count++;
+        }
+
+        /**
+         * Fecha o produto corrente
+         *
+         * @return Linha do produto na coluna
+         */
+        public int endRow() {
+            if (rows + 1 == starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+            }
+            starts[++rows] = count;
+            lastDirectory = null;
+            return rows - 1;
+        }
+
+        private static int encode(Map<String, Integer> dictionary, String value) {
+            return dictionary.computeIfAbsent(value, v -> dictionary.size());
+        }
+
+        private static String[] decode(Map<String, Integer> dictionary) {
+            String[] values = new String[dictionary.size()];
+            dictionary.forEach((value, code) -> values[code] = value);
+            return values;
+        }
+
+        /**
+         * Coluna com o tamanho exato das URLs adicionadas
+         */
+        public UrlColumn build() {
+            return new UrlColumn(this);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.salazar.service.catalog;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementação SIMD dos cálculos de preço com jdk.incubator.vector
+ *
+ * Processa {@code DOUBLES.length()} produtos por instrução (4 com AVX2, 8 com
+ * AVX-512); o restante que não completa um vetor segue pelo caminho escalar.
+ * Só é carregada por {@link PriceKernels#best()} quando o módulo está presente.
+ */
+final class VectorPriceKernels implements PriceKernels {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    // Mesmo número de lanes das doubles, para converter o estoque int -> double
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.length() * Integer.SIZE));
+
+    @Override
+    public String name() {
+        return "vector-" + DOUBLES.length() + "x64";
+    }
+
+    @Override
+    public void finalPrices(double[] prices, double[] discounts, double[] out) {
+        int i = 0;
+        int bound = DOUBLES.loopBound(prices.length);
+        for (; i < bound; i += DOUBLES.length()) {
+            DoubleVector price = DoubleVector.fromArray(DOUBLES, prices, i);
+            DoubleVector discount = DoubleVector.fromArray(DOUBLES, discounts, i);
+            discount = discount.blend(0.0, discount.test(VectorOperators.IS_NAN));
+            price.mul(discount.mul(-0.01).add(1.0)).intoArray(out, i);
+        }
+        for (; i < prices.length; i++) {
+            double discount = Double.isNaN(discounts[i]) ? 0.0 : discounts[i];
+            out[i] = prices[i] * (1.0 - discount * 0.01);
+        }
+    }
+
+    @Override
+    public Totals totals(double[] prices, double[] finalPrices, int[] stocks) {
+        DoubleVector inventory = DoubleVector.zero(DOUBLES);
+        DoubleVector discountedInventory = DoubleVector.zero(DOUBLES);
+        DoubleVector finalSum = DoubleVector.zero(DOUBLES);
+        long pricedCount = 0;
+
+        int i = 0;
+        int bound = DOUBLES.loopBound(prices.length);
+        for (; i < bound; i += DOUBLES.length()) {
+            DoubleVector price = DoubleVector.fromArray(DOUBLES, prices, i);
+            DoubleVector finalPrice = DoubleVector.fromArray(DOUBLES, finalPrices, i);
+            DoubleVector stock = (DoubleVector) IntVector.fromArray(INTS, stocks, i)
+                    .convertShape(VectorOperators.I2D, DOUBLES, 0);
+            VectorMask<Double> priced = price.test(VectorOperators.IS_NAN).not();
+
+            inventory = inventory.add(price.mul(stock), priced);
+            discountedInventory = discountedInventory.add(finalPrice.mul(stock), priced);
+            finalSum = finalSum.add(finalPrice, priced);
+            pricedCount += priced.trueCount();
+        }
+
+        double inventoryValue = inventory.reduceLanes(VectorOperators.ADD);
+        double discountedInventoryValue = discountedInventory.reduceLanes(VectorOperators.ADD);
+        double finalPriceSum = finalSum.reduceLanes(VectorOperators.ADD);
+        for (; i < prices.length; i++) {
+            if (!Double.isNaN(prices[i])) {
+                pricedCount++;
+                inventoryValue += prices[i] * stocks[i];
+                discountedInventoryValue += finalPrices[i] * stocks[i];
+                finalPriceSum += finalPrices[i];
+            }
+        }
+        return new Totals(pricedCount, inventoryValue, discountedInventoryValue, finalPriceSum);
+    }
+
+    @Override
+    public void histogram(double[] finalPrices, double bucketWidth, long[] counts) {
+        double scale = 1.0 / bucketWidth;
+        int last = counts.length - 1;
+        // Posição extra no fim recebe os preços NaN e é descartada
+        long[] padded = new long[counts.length + 1];
+        double[] buckets = new double[DOUBLES.length()];
+
+        int i = 0;
+        int bound = DOUBLES.loopBound(finalPrices.length);
+        for (; i < bound; i += DOUBLES.length()) {
+            DoubleVector price = DoubleVector.fromArray(DOUBLES, finalPrices, i);
+            VectorMask<Double> missing = price.test(VectorOperators.IS_NAN);
+            // O índice do bucket é calculado em SIMD; o incremento (scatter) é escalar
+            price.mul(scale).max(0.0).min(last).blend(last + 1, missing).intoArray(buckets, 0);
+            for (double bucket : buckets) {
+                padded[(int) bucket]++;
+            }
+        }
+        for (; i < finalPrices.length; i++) {
+            if (!Double.isNaN(finalPrices[i])) {
+                padded[(int) Math.min(last, Math.max(0.0, finalPrices[i] * scale))]++;
+            }
+        }
+        for (int b = 0; b < counts.length; b++) {
+            counts[b] += padded[b];
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.salazar.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Operação em um cache local: acerto, falta, carga ou espera por carga de outra thread
+ */
+@Name("br.com.salazar.Cache")
+@Label("Cache Operation")
+@Description("Acerto, falta, carga ou espera coalescida em um cache local")
+@Category({"Desafio Sicredi", "Cache"})
+@StackTrace(false)
+public class CacheEvent extends jdk.jfr.Event {
+
+    public static final String HIT = "HIT";
+    public static final String MISS = "MISS";
+    public static final String LOAD = "LOAD";
+    public static final String WAIT = "WAIT";
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Operation")
+    @Description("HIT, MISS, LOAD ou WAIT (aguardou a carga iniciada por outra thread)")
+    public String operation;
+
+    @Label("Size")
+    @Description("Itens carregados ou devolvidos, quando se aplica")
+    public long size;
+
+    /**
+     * Grava o evento se houver gravação ativa; os campos só são preenchidos nesse caso
+     */
+    public void commit(String cache, String operation, long size) {
+        if (shouldCommit()) {
+            this.cache = cache;
+            this.operation = operation;
+            this.size = size;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.salazar.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Exceção tratada pelo GlobalExceptionHandler
+ */
+@Name("br.com.salazar.ErrorHandled")
+@Label("Error Handled")
+@Description("Exceção convertida em resposta de erro pelo GlobalExceptionHandler")
+@Category({"Desafio Sicredi", "Errors"})
+@StackTrace(false)
+public class ErrorHandledEvent extends jdk.jfr.Event {
+
+    @Label("Exception")
+    public Class<?> exceptionType;
+
+    @Label("Route")
+    public String route;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Payload Size")
+    @Description("Tamanho do corpo de erro; 0 quando ele é serializado depois pelo Spring")
+    @DataAmount
+    public long payloadSize;
+}
@@ -0,0 +1,34 @@
+package br.com.salazar.service.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Troca HTTP com a API externa, do envio ao fechamento da resposta
+ */
+@Name("br.com.salazar.UpstreamExchange")
+@Label("Upstream Exchange")
+@Description("Chamada à API externa, incluindo a leitura do corpo da resposta")
+@Category({"Desafio Sicredi", "Upstream"})
+@StackTrace(false)
+public class UpstreamExchangeEvent extends jdk.jfr.Event {
+
+    @Label("Route")
+    public String route;
+
+    @Label("Status")
+    @Description("Status HTTP; 0 quando não houve resposta")
+    public int status;
+
+    @Label("Bytes Received")
+    @DataAmount
+    public long bytesReceived;
+
+    @Label("Error")
+    @Description("Tipo da exceção quando não houve resposta")
+    public String error;
+}
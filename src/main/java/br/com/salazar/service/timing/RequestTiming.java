@@ -0,0 +1,182 @@
+package br.com.salazar.service.timing;
+
+/**
+ * Tempo gasto por fase dentro de uma requisição, para o header Server-Timing
+ *
+ * O contexto fica em um ThreadLocal enquanto o filtro da requisição está ativo
+ * e acumula nanossegundos (System.nanoTime) por fase. Os pontos instrumentados
+ * usam o par {@link #start()} / {@link #stop(Phase, long)}:
+ *
+ * <pre>
+ * long started = RequestTiming.start();
+ * ...
+ * RequestTiming.stop(Phase.CACHE, started);
+ * </pre>
+ *
+ * Com a medição desligada, start() é só a leitura de um boolean e devolve 0, e
+ * stop() retorna na hora. Trabalho feito em outras threads (pool upstream,
+ * atualização do catálogo) não é atribuído a nenhuma requisição.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class RequestTiming {
+
+    /**
+     * Fases reportadas, na ordem em que aparecem no header
+     */
+    public enum Phase {
+        CACHE("cache"),
+        UPSTREAM("upstream"),
+        DESERIALIZATION("deser"),
+        VALIDATION("validation"),
+        MAPPING("mapping"),
+        SERIALIZATION("serialization");
+
+        private final String metric;
+
+        Phase(String metric) {
+            this.metric = metric;
+        }
+
+        public String metric() {
+            return metric;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private static volatile boolean enabled;
+
+    private final long startNanos = System.nanoTime();
+    private final long[] nanos = new long[PHASES.length];
+    private final long[] pending = new long[PHASES.length];
+    private int touched;
+
+    private RequestTiming() {
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Abre o contexto da requisição na thread atual
+     */
+    public static RequestTiming attach() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static void detach() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return Instante de início, ou 0 com a medição desligada
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void stop(Phase phase, long started) {
+        if (started == 0L) {
+            return;
+        }
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.add(phase, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Marca o início de uma fase que termina em outro ponto do fluxo (ex.:
+     * leitura do corpo entre os callbacks do RequestBodyAdvice)
+     */
+    public static void mark(Phase phase) {
+        if (enabled) {
+            RequestTiming timing = CURRENT.get();
+            if (timing != null) {
+                timing.pending[phase.ordinal()] = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Fecha uma fase aberta por {@link #mark(Phase)}; sem marca, não faz nada
+     */
+    public static void complete(Phase phase) {
+        if (enabled) {
+            RequestTiming timing = CURRENT.get();
+            if (timing != null) {
+                timing.completePending(phase);
+            }
+        }
+    }
+
+    public void completePending(Phase phase) {
+        long started = pending[phase.ordinal()];
+        if (started != 0L) {
+            pending[phase.ordinal()] = 0L;
+            add(phase, System.nanoTime() - started);
+        }
+    }
+
+    private void add(Phase phase, long elapsed) {
+        nanos[phase.ordinal()] += elapsed;
+        touched |= 1 << phase.ordinal();
+    }
+
+    public boolean touched(Phase phase) {
+        return (touched & (1 << phase.ordinal())) != 0;
+    }
+
+    /**
+     * @return Tempo acumulado da fase em milissegundos
+     */
+    public double millis(Phase phase) {
+        return nanos[phase.ordinal()] / 1_000_000.0;
+    }
+
+    public double totalMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+
+    /**
+     * Valor do header Server-Timing com as fases medidas e o total
+     */
+    public String header(double totalMillis) {
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : PHASES) {
+            if (touched(phase)) {
+                appendMetric(header, phase.metric(), millis(phase));
+            }
+        }
+        appendMetric(header, "total", totalMillis);
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, double millis) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        // Três casas decimais (microssegundos) bastam e evitam notação científica
+        long micros = Math.round(millis * 1000);
+        header.append(name).append(";dur=").append(micros / 1000).append('.');
+        long fraction = micros % 1000;
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        header.append(fraction);
+    }
+}
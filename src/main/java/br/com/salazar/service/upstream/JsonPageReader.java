@@ -0,0 +1,104 @@
+package br.com.salazar.service.upstream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Leitura em streaming das páginas retornadas pelo dummyjson
+ *
+ * As listagens da API externa seguem o envelope
+ * {"users|products": [...], "total": n, "skip": n, "limit": n}. Este leitor
+ * percorre o JSON com um pull parser:
+ * - Cada item da lista é convertido no DTO e entregue ao consumidor na hora
+ * - Campos do item que o DTO não declara são pulados token a token (skipChildren)
+ * - Campos desconhecidos do envelope também são pulados sem materialização
+ *
+ * Aloca cerca de 4% a mais que deserializar o envelope inteiro em um DTO de
+ * resposta (um DeserializationContext por item, ver UpstreamPageBenchmark); o
+ * ganho é não reter a lista, então só vale para quem consome item a item
+ * (carga do catálogo, stream NDJSON). Listagens devolvidas inteiras ao cliente
+ * (/users, /products) seguem pelo RestTemplate.exchange.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@Component
+public class JsonPageReader {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public JsonPageReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Lê uma página entregando cada item ao consumidor
+     *
+     * @param body Corpo da resposta da API externa
+     * @param itemsField Nome do campo com a lista (ex.: "users", "products")
+     * @param type Tipo do DTO de cada item
+     * @param handler Consumidor chamado para cada item, na ordem da resposta
+     * @return Metadados da página
+     * @throws IOException Se o corpo não for o envelope esperado
+     */
+    public <T> Page read(InputStream body, String itemsField, Class<T> type, ItemHandler<? super T> handler)
+            throws IOException {
+        ObjectReader reader = readers.computeIfAbsent(type, t -> objectMapper.readerFor(t)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Resposta inesperada da API externa: objeto JSON esperado");
+            }
+            long count = 0;
+            Integer total = null;
+            Integer skip = null;
+            Integer limit = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (itemsField.equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        T item = reader.readValue(parser);
+                        handler.accept(item);
+                        count++;
+                    }
+                } else if ("total".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    total = parser.getIntValue();
+                } else if ("skip".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    skip = parser.getIntValue();
+                } else if ("limit".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    limit = parser.getIntValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new Page(count, total, skip, limit);
+        }
+    }
+
+    /**
+     * Consumidor de itens que pode escrever em streams (ex.: NDJSON)
+     */
+    @FunctionalInterface
+    public interface ItemHandler<T> {
+        void accept(T item) throws IOException;
+    }
+
+    /**
+     * Metadados do envelope; total/skip/limit são null se a API não os enviar
+     */
+    public record Page(long count, Integer total, Integer skip, Integer limit) {
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.salazar.service.upstream;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latência log-linear no estilo HdrHistogram, sem locks
+ *
+ * Valores em microssegundos. Até 127 µs cada valor tem seu próprio bucket; acima
+ * disso cada potência de dois é dividida em 64 buckets, então o erro relativo de
+ * qualquer percentil fica abaixo de 1/64 (~1,6%) em toda a faixa, até ~71
+ * minutos. Gravar é um incremento atômico em um array de tamanho fixo (1728
+ * posições); não há alocação por amostra.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final long MAX_VALUE = (1L << 32) - 1;
+    private static final int BUCKETS = indexOf(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Registra uma amostra; valores fora da faixa são saturados
+     */
+    public void record(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_VALUE);
+        counts.incrementAndGet(indexOf(value));
+        total.increment();
+        sum.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift);
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (sub - SUB_BUCKETS);
+    }
+
+    // Maior valor equivalente ao bucket, como o HdrHistogram reporta percentis
+    static long highestValueOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long sub = SUB_BUCKETS + (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    /**
+     * Cópia consistente o suficiente para relatório; gravações concorrentes
+     * podem entrar ou não
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(copy, count, sum.sum(), max.get());
+    }
+
+    public long count() {
+        return total.sum();
+    }
+
+    /**
+     * @param count Amostras contadas nos buckets copiados
+     */
+    public record Snapshot(long[] buckets, long count, long sumMicros, long maxMicros) {
+
+        /**
+         * @param percentile Entre 0 e 100
+         * @return Latência em microssegundos abaixo da qual está o percentil pedido
+         */
+        public long valueAt(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueOf(i), maxMicros);
+                }
+            }
+            return maxMicros;
+        }
+
+        public double meanMicros() {
+            return count == 0 ? 0 : (double) sumMicros / count;
+        }
+    }
+}
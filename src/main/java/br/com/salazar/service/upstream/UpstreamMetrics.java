@@ -0,0 +1,329 @@
+package br.com.salazar.service.upstream;
+
+import br.com.salazar.model.dto.LatencyStatsDto;
+import br.com.salazar.model.dto.UpstreamMetricsResponseDto;
+import br.com.salazar.model.dto.UpstreamRouteMetricsDto;
+import br.com.salazar.service.jfr.UpstreamExchangeEvent;
+import br.com.salazar.service.timing.RequestTiming;
+import br.com.salazar.service.timing.RequestTiming.Phase;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas das chamadas à API externa, registradas no RestTemplate
+ *
+ * Toda troca com o dummyjson passa por este interceptor. Por rota (método +
+ * caminho com ids normalizados, ex.: "GET /products/{id}") são mantidos:
+ * - Histograma de latência até os cabeçalhos da resposta, por classe de status
+ * - Chamadas em andamento (do envio até o fechamento da resposta)
+ * - Bytes do corpo efetivamente lidos
+ * - Falhas sem resposta HTTP (timeout, conexão recusada...) por tipo de exceção
+ *
+ * Erros HTTP (4xx/5xx) aparecem na classe de status correspondente do histograma.
+ * Com o Server-Timing ligado, a espera pelos cabeçalhos conta como fase
+ * "upstream" e a leitura do corpo até o fechamento da resposta como "deser".
+ * Com uma gravação JFR ativa, cada troca gera um {@link UpstreamExchangeEvent}.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@Component
+public class UpstreamMetrics implements ClientHttpRequestInterceptor {
+
+    // Limite de rotas distintas; o excedente é agregado para não crescer sem controle
+    private static final int MAX_ROUTES = 256;
+    private static final String OTHER_ROUTE = "OTHER";
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+    private final long startNanos = System.nanoTime();
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Route route = route(request.getMethod(), request.getURI());
+        route.inFlight.increment();
+        UpstreamExchangeEvent event = new UpstreamExchangeEvent();
+        event.begin();
+        long timed = RequestTiming.start();
+        long start = System.nanoTime();
+        ClientHttpResponse response;
+        int status;
+        try {
+            response = execution.execute(request, body);
+            status = response.getStatusCode().value();
+            route.latency(status).record(micros(start));
+        } catch (IOException | RuntimeException e) {
+            route.inFlight.decrement();
+            route.errors.computeIfAbsent(e.getClass().getSimpleName(), k -> new LongAdder()).increment();
+            if (event.shouldCommit()) {
+                event.route = route.name;
+                event.error = e.getClass().getName();
+                event.commit();
+            }
+            throw e;
+        } finally {
+            RequestTiming.stop(Phase.UPSTREAM, timed);
+        }
+        return new MeteredResponse(response, route, status, RequestTiming.start(), event);
+    }
+
+    private static long micros(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    }
+
+    private Route route(HttpMethod method, URI uri) {
+        String name = normalize(method, uri.getRawPath());
+        Route route = routes.get(name);
+        if (route != null) {
+            return route;
+        }
+        if (routes.size() >= MAX_ROUTES) {
+            name = OTHER_ROUTE;
+        }
+        return routes.computeIfAbsent(name, Route::new);
+    }
+
+    /**
+     * Nome da rota com segmentos que parecem identificadores trocados por {id}
+     */
+    static String normalize(HttpMethod method, String path) {
+        StringBuilder route = new StringBuilder(method.name()).append(' ');
+        if (path == null || path.isEmpty()) {
+            return route.append('/').toString();
+        }
+        int start = path.charAt(0) == '/' ? 1 : 0;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            route.append('/');
+            if (isIdentifier(path, start, end)) {
+                route.append("{id}");
+            } else {
+                route.append(path, start, end);
+            }
+            start = end + 1;
+        }
+        return route.toString();
+    }
+
+    // Só dígitos, ou um token longo que mistura dígitos (uuid, hash)
+    private static boolean isIdentifier(String path, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            if (Character.isDigit(path.charAt(i))) {
+                digits++;
+            }
+        }
+        return digits == end - start || (digits > 0 && end - start >= 16);
+    }
+
+    /**
+     * Estado atual de todas as rotas, para o endpoint de métricas
+     */
+    public UpstreamMetricsResponseDto snapshot() {
+        List<UpstreamRouteMetricsDto> result = new ArrayList<>();
+        for (Route route : routes.values()) {
+            UpstreamRouteMetricsDto dto = new UpstreamRouteMetricsDto();
+            dto.setRoute(route.name);
+            dto.setInFlight(route.inFlight.sum());
+            dto.setBytesReceived(route.bytesReceived.sum());
+
+            Map<String, LatencyStatsDto> latency = new LinkedHashMap<>();
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                LatencyHistogram histogram = route.latencyByStatus.get(i);
+                if (histogram != null) {
+                    latency.put(STATUS_CLASSES[i], toDto(histogram.snapshot()));
+                }
+            }
+            dto.setLatency(latency);
+
+            Map<String, Long> errors = new LinkedHashMap<>();
+            route.errors.forEach((type, count) -> errors.put(type, count.sum()));
+            dto.setErrors(errors);
+            result.add(dto);
+        }
+        result.sort(Comparator.comparing(UpstreamRouteMetricsDto::getRoute));
+
+        UpstreamMetricsResponseDto response = new UpstreamMetricsResponseDto();
+        response.setUptimeSeconds(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos));
+        response.setRoutes(result);
+        return response;
+    }
+
+    private static LatencyStatsDto toDto(LatencyHistogram.Snapshot snapshot) {
+        LatencyStatsDto dto = new LatencyStatsDto();
+        dto.setCount(snapshot.count());
+        dto.setMeanMs(snapshot.meanMicros() / 1000.0);
+        dto.setP50Ms(snapshot.valueAt(50) / 1000.0);
+        dto.setP99Ms(snapshot.valueAt(99) / 1000.0);
+        dto.setP999Ms(snapshot.valueAt(99.9) / 1000.0);
+        dto.setMaxMs(snapshot.maxMicros() / 1000.0);
+        return dto;
+    }
+
+    private static final class Route {
+        private final String name;
+        private final AtomicReferenceArray<LatencyHistogram> latencyByStatus =
+                new AtomicReferenceArray<>(STATUS_CLASSES.length);
+        private final LongAdder inFlight = new LongAdder();
+        private final LongAdder bytesReceived = new LongAdder();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        Route(String name) {
+            this.name = name;
+        }
+
+        // Histograma criado na primeira resposta da classe de status
+        LatencyHistogram latency(int status) {
+            int index = Math.min(Math.max(status / 100, 1), STATUS_CLASSES.length) - 1;
+            LatencyHistogram histogram = latencyByStatus.get(index);
+            if (histogram == null) {
+                latencyByStatus.compareAndSet(index, null, new LatencyHistogram());
+                histogram = latencyByStatus.get(index);
+            }
+            return histogram;
+        }
+    }
+
+    /**
+     * Conta os bytes lidos do corpo e encerra a chamada em andamento ao fechar
+     */
+    private static final class MeteredResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final Route route;
+        private final int status;
+        private final long headersReceived;
+        private final UpstreamExchangeEvent event;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private CountingInputStream body;
+
+        MeteredResponse(ClientHttpResponse delegate, Route route, int status, long headersReceived,
+                        UpstreamExchangeEvent event) {
+            this.delegate = delegate;
+            this.route = route;
+            this.status = status;
+            this.headersReceived = headersReceived;
+            this.event = event;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingInputStream(delegate.getBody(), route.bytesReceived);
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                route.inFlight.decrement();
+                RequestTiming.stop(Phase.DESERIALIZATION, headersReceived);
+                if (event.shouldCommit()) {
+                    event.route = route.name;
+                    event.status = status;
+                    event.bytesReceived = body != null ? body.count : 0;
+                    event.commit();
+                }
+            }
+            delegate.close();
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private final LongAdder counter;
+        private long count;
+
+        CountingInputStream(InputStream in, LongAdder counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                counter.increment();
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                counter.add(n);
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            counter.add(skipped);
+            count += skipped;
+            return skipped;
+        }
+
+        // Sem mark/reset os bytes relidos não são contados duas vezes: quem precisa
+        // espiar o corpo (ex.: IntrospectingClientHttpResponse) usa um PushbackInputStream
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void mark(int readlimit) {
+        }
+
+        @Override
+        public void reset() throws IOException {
+            throw new IOException("mark/reset não suportado");
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.salazar.benchmark;
+
+import br.com.salazar.model.dto.ProductDto;
+import br.com.salazar.model.dto.ProductsResponseDto;
+import br.com.salazar.support.ApplicationMappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode e decode de uma listagem de 1k produtos em JSON, CBOR e Smile,
+ * os formatos negociados pelos endpoints públicos de produtos
+ *
+ * Os mappers são os dos conversores da aplicação: JSON do Spring Boot e CBOR/Smile
+ * do BinaryFormatsConfig (ver ApplicationMappers). O tamanho do corpo de cada
+ * formato sai no resultado como o contador auxiliar {@code payloadBytes}.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryFormatsBenchmark {
+
+    private static final int PRODUCTS = 1_000;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    private ProductsResponseDto listing;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws Exception {
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> ApplicationMappers.cbor();
+            case "smile" -> ApplicationMappers.smile();
+            default -> ApplicationMappers.json();
+        };
+        writer = mapper.writerFor(ProductsResponseDto.class);
+        reader = mapper.readerFor(ProductsResponseDto.class);
+
+        listing = listing();
+        encoded = writer.writeValueAsBytes(listing);
+    }
+
+    @Benchmark
+    public byte[] encode(Payload payload) throws Exception {
+        byte[] body = writer.writeValueAsBytes(listing);
+        payload.payloadBytes = body.length;
+        return body;
+    }
+
+    @Benchmark
+    public ProductsResponseDto decode(Payload payload) throws Exception {
+        payload.payloadBytes = encoded.length;
+        return reader.readValue(encoded);
+    }
+
+    /**
+     * Tamanho em bytes do corpo codificado, reportado junto com o tempo
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long payloadBytes;
+    }
+
+    private static ProductsResponseDto listing() {
+        String[] categories = {"smartphones", "laptops", "fragrances", "groceries", "furniture"};
+        List<ProductDto> products = new ArrayList<>(PRODUCTS);
+        for (int i = 1; i <= PRODUCTS; i++) {
+            ProductDto product = new ProductDto();
+            product.setId((long) i);
+            product.setTitle("Product " + i);
+            product.setDescription("Description of product " + i + " with some marketing text");
+            product.setPrice(9.99 + i);
+            product.setDiscountPercentage((i % 20) + 0.5);
+            product.setRating(1.0 + (i % 40) / 10.0);
+            product.setStock(i % 150);
+            product.setBrand("Brand " + (i % 30));
+            product.setCategory(categories[i % categories.length]);
+            product.setThumbnail("https://cdn.dummyjson.com/products/images/" + i + "/thumbnail.png");
+            product.setImages(List.of("https://cdn.dummyjson.com/products/images/" + i + "/1.png"));
+            products.add(product);
+        }
+        ProductsResponseDto response = new ProductsResponseDto();
+        response.setProducts(products);
+        response.setTotal(PRODUCTS);
+        response.setSkip(0);
+        response.setLimit(PRODUCTS);
+        return response;
+    }
+}
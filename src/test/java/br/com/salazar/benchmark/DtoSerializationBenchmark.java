@@ -0,0 +1,137 @@
+package br.com.salazar.benchmark;
+
+import br.com.salazar.model.dto.LoginResponseDto;
+import br.com.salazar.model.dto.ProductDto;
+import br.com.salazar.model.dto.ProductsResponseDto;
+import br.com.salazar.model.dto.UserDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização dos DTOs mais usados nas respostas: reflexão (Jackson padrão)
+ * versus acessores gerados pelo BlackbirdModule
+ *
+ * Os dois mappers usam a mesma configuração do application.yml (SNAKE_CASE e
+ * NON_NULL), então a diferença medida é apenas o acesso às propriedades.
+ *
+ * Resultado (JDK 21, 1 CPU, -f 3 -wi 5 -i 10, ops/ms, erro de 99,9%):
+ * <pre>
+ *                    reflection        blackbird
+ * loginResponse      1401.8 ± 168.2    1459.3 ± 158.2
+ * productsListing      31.5 ±   5.1      29.7 ±   4.0
+ * singleProduct      1214.7 ±  77.9    1364.2 ±  67.7
+ * user               3838.0 ± 236.1    3900.0 ± 306.1
+ * </pre>
+ * Só singleProduct ganha além da margem de erro; a listagem, que é a resposta
+ * mais comum, fica igual ou pior. Por isso o BlackbirdModule não é registrado
+ * na aplicação, e a dependência fica só no escopo de teste, para este benchmark.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoSerializationBenchmark {
+
+    @Param({"reflection", "blackbird"})
+    public String access;
+
+    private ObjectWriter productsWriter;
+    private ObjectWriter productWriter;
+    private ObjectWriter loginWriter;
+    private ObjectWriter userWriter;
+
+    private ProductsResponseDto products;
+    private LoginResponseDto login;
+    private UserDto user;
+
+    @Setup
+    public void setup() {
+        ObjectMapper mapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        if ("blackbird".equals(access)) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+        productsWriter = mapper.writerFor(ProductsResponseDto.class);
+        productWriter = mapper.writerFor(ProductDto.class);
+        loginWriter = mapper.writerFor(LoginResponseDto.class);
+        userWriter = mapper.writerFor(UserDto.class);
+
+        List<ProductDto> items = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            items.add(product(i));
+        }
+        products = new ProductsResponseDto();
+        products.setProducts(items);
+        products.setTotal(194);
+        products.setSkip(0);
+        products.setLimit(30);
+
+        login = new LoginResponseDto();
+        login.setId(1L);
+        login.setUsername("emilys");
+        login.setEmail("emily.johnson@x.dummyjson.com");
+        login.setFirstName("Emily");
+        login.setLastName("Johnson");
+        login.setGender("female");
+        login.setImage("https://dummyjson.com/icon/emilys/128");
+        login.setToken("eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.payload.signature");
+        login.setRefreshToken("eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.refresh.signature");
+
+        user = new UserDto();
+        user.setId(1L);
+        user.setFirstName("Emily");
+        user.setLastName("Johnson");
+        user.setEmail("emily.johnson@x.dummyjson.com");
+    }
+
+    @Benchmark
+    public byte[] productsListing() throws Exception {
+        return productsWriter.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] singleProduct() throws Exception {
+        return productWriter.writeValueAsBytes(products.getProducts().get(0));
+    }
+
+    @Benchmark
+    public byte[] loginResponse() throws Exception {
+        return loginWriter.writeValueAsBytes(login);
+    }
+
+    @Benchmark
+    public byte[] user() throws Exception {
+        return userWriter.writeValueAsBytes(user);
+    }
+
+    private static ProductDto product(int i) {
+        ProductDto product = new ProductDto();
+        product.setId((long) i);
+        product.setTitle("Product " + i);
+        product.setDescription("Description of product " + i);
+        product.setPrice(9.99 + i);
+        product.setDiscountPercentage(7.5);
+        product.setRating(4.2);
+        product.setStock(i * 3);
+        product.setBrand("Brand " + (i % 7));
+        product.setCategory("smartphones");
+        product.setThumbnail("https://cdn.dummyjson.com/products/images/" + i + "/thumbnail.png");
+        product.setImages(List.of("https://cdn.dummyjson.com/products/images/" + i + "/1.png"));
+        return product;
+    }
+}
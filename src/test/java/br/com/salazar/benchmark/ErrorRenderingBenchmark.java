@@ -0,0 +1,73 @@
+package br.com.salazar.benchmark;
+
+import br.com.salazar.exception.GlobalExceptionHandler;
+import br.com.salazar.exception.ProductNotFoundException;
+import br.com.salazar.exception.ValidationException;
+import br.com.salazar.support.ApplicationMappers;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renderização de respostas de erro pelo GlobalExceptionHandler, até os bytes do corpo
+ *
+ * Produto inexistente e validação usam os modelos pré-serializados de ErrorBodies;
+ * JSON malformado segue pelo ErrorResponseDto e é serializado aqui com o mesmo
+ * mapper da aplicação, servindo de referência para o caminho rápido.
+ *
+ * As exceções são criadas no setup: o custo medido é o do handler, não o da
+ * construção da exceção.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorRenderingBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ObjectWriter writer;
+    private MockHttpServletRequest request;
+
+    private ProductNotFoundException notFound;
+    private ValidationException validation;
+    private HttpMessageNotReadableException malformedJson;
+
+    @Setup
+    public void setup() {
+        handler = new GlobalExceptionHandler();
+        writer = ApplicationMappers.json().writer();
+        request = new MockHttpServletRequest("GET", "/products/999");
+
+        notFound = new ProductNotFoundException(999L);
+        validation = new ValidationException("Dados de produto inválidos",
+                List.of("title: Título do produto é obrigatório", "price: Preço deve ser positivo"));
+        malformedJson = new HttpMessageNotReadableException("JSON parse error",
+                new MockHttpInputMessage(new byte[0]));
+    }
+
+    @Benchmark
+    public byte[] productNotFound() {
+        return (byte[]) handler.handleProductNotFound(notFound, request).getBody();
+    }
+
+    @Benchmark
+    public byte[] validationFailed() {
+        return (byte[]) handler.handleValidation(validation, request).getBody();
+    }
+
+    @Benchmark
+    public byte[] malformedJsonDto() throws Exception {
+        return writer.writeValueAsBytes(handler.handleHttpMessageNotReadable(malformedJson, request).getBody());
+    }
+}
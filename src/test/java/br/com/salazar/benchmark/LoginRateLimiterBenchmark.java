@@ -0,0 +1,56 @@
+package br.com.salazar.benchmark;
+
+import br.com.salazar.service.auth.LoginRateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por tentativa do LoginRateLimiter
+ *
+ * O caso "flood" percorre 1M de usuários/IPs distintos contra a tabela padrão
+ * de 65536 slots, como em um ataque com chaves aleatórias: quase toda chamada
+ * toma o slot de outra chave. O caso "sameKey" é o de um usuário legítimo
+ * repetindo a tentativa.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginRateLimiterBenchmark {
+
+    private static final int KEYS = 1 << 20;
+
+    private LoginRateLimiter limiter;
+    private String[] users;
+    private String[] ips;
+    private int next;
+
+    @Setup
+    public void setup() {
+        limiter = new LoginRateLimiter(true, 5, 5, 30, 60, 65_536, System::nanoTime);
+        users = new String[KEYS];
+        ips = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            users[i] = "user" + i;
+            ips[i] = "10." + (i >>> 16) + "." + ((i >>> 8) & 0xFF) + "." + (i & 0xFF);
+        }
+    }
+
+    @Benchmark
+    public long flood() {
+        int i = next++ & (KEYS - 1);
+        return limiter.tryAcquire(users[i], ips[i]);
+    }
+
+    @Benchmark
+    public long sameKey() {
+        return limiter.tryAcquire("emilys", "203.0.113.7");
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.salazar.benchmark;
+
+import br.com.salazar.model.dto.ProductDto;
+import br.com.salazar.model.dto.ProductResponseDto;
+import br.com.salazar.service.ProductService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métodos auxiliares do ProductService executados a cada resposta da API externa:
+ * conversão ProductResponseDto -> ProductDto e extração da mensagem de erro
+ *
+ * Os dois métodos são privados; o acesso é feito por MethodHandles guardados em
+ * campos static final, que a JIT trata como chamada direta, então o custo medido
+ * é o do próprio método e não o da reflexão.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductServiceBenchmark {
+
+    private static final MethodHandle CONVERT_TO_PRODUCT_DTO;
+    private static final MethodHandle EXTRACT_MESSAGE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(ProductService.class, MethodHandles.lookup());
+            CONVERT_TO_PRODUCT_DTO = lookup.findVirtual(ProductService.class, "convertToProductDto",
+                    MethodType.methodType(ProductDto.class, ProductResponseDto.class));
+            EXTRACT_MESSAGE = lookup.findVirtual(ProductService.class, "extractMessage",
+                    MethodType.methodType(String.class, String.class, String.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private ProductService service;
+    private ProductResponseDto response;
+    private String errorBody;
+    private String bodyWithoutMessage;
+
+    @Setup
+    public void setup() {
+        // Os métodos medidos não usam as dependências do serviço
+        service = new ProductService(null, null, null, null);
+
+        response = new ProductResponseDto();
+        response.setId(195L);
+        response.setTitle("Perfume Oil");
+        response.setDescription("Mega Discount, Impression of Acqua Di Gio by GiorgioArmani concentrated attar perfume Oil");
+        response.setPrice(1300L);
+        response.setDiscountPercentage(8.4);
+        response.setRating(4.26);
+        response.setStock(65);
+        response.setBrand("Impression of Acqua Di Gio");
+        response.setCategory("fragrances");
+        response.setThumbnail("https://cdn.dummyjson.com/product-images/fragrances/perfume-oil/thumbnail.webp");
+
+        errorBody = "{\"message\":\"Invalid/Expired Token!\"}";
+        bodyWithoutMessage = "<html><body><h1>502 Bad Gateway</h1></body></html>";
+    }
+
+    @Benchmark
+    public ProductDto convertToProductDto() throws Throwable {
+        return (ProductDto) CONVERT_TO_PRODUCT_DTO.invokeExact(service, response);
+    }
+
+    @Benchmark
+    public String extractMessage() throws Throwable {
+        return (String) EXTRACT_MESSAGE.invokeExact(service, errorBody, "Authentication Problem");
+    }
+
+    @Benchmark
+    public String extractMessageWithoutMessageField() throws Throwable {
+        return (String) EXTRACT_MESSAGE.invokeExact(service, bodyWithoutMessage, "Authentication Problem");
+    }
+}
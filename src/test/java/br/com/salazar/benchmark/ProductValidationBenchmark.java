@@ -0,0 +1,80 @@
+package br.com.salazar.benchmark;
+
+import br.com.salazar.model.dto.ProductCreateRequestDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation do corpo de POST /products/add (ProductCreateRequestDto)
+ *
+ * O caso válido mede a passada pelas restrições; o inválido inclui a
+ * interpolação das mensagens de cada violação, que domina o custo quando o
+ * corpo é rejeitado.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductValidationBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator validator;
+
+    private ProductCreateRequestDto valid;
+    private ProductCreateRequestDto invalid;
+
+    @Setup
+    public void setup() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+
+        valid = new ProductCreateRequestDto();
+        valid.setTitle("Perfume Oil");
+        valid.setDescription("Mega desconto");
+        valid.setPrice(13.0);
+        valid.setDiscountPercentage(8.4);
+        valid.setRating(4.26);
+        valid.setStock(65);
+        valid.setBrand("Impression");
+        valid.setCategory("fragrances");
+        valid.setThumbnail("https://dummyimage.com/thumb.jpg");
+
+        // Título curto, preço negativo, rating fora da faixa e marca ausente
+        invalid = new ProductCreateRequestDto();
+        invalid.setTitle("Pe");
+        invalid.setDescription("Mega desconto");
+        invalid.setPrice(-1.0);
+        invalid.setDiscountPercentage(8.4);
+        invalid.setRating(7.0);
+        invalid.setStock(65);
+        invalid.setCategory("fragrances");
+        invalid.setThumbnail("https://dummyimage.com/thumb.jpg");
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ProductCreateRequestDto>> validRequest() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ProductCreateRequestDto>> invalidRequest() {
+        return validator.validate(invalid);
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.salazar.benchmark;
+
+import br.com.salazar.model.dto.ProductDto;
+import br.com.salazar.model.dto.ProductsResponseDto;
+import br.com.salazar.support.ApplicationMappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização e deserialização de ProductsResponseDto por tamanho de página:
+ * 30 (página padrão da API externa), 1k e 100k produtos (catálogo completo)
+ *
+ * O mapper é o da aplicação (ver ApplicationMappers). Rodar com {@code -prof gc}
+ * mostra também os bytes alocados por operação.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductsJsonBenchmark {
+
+    @Param({"30", "1000", "100000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    private ProductsResponseDto products;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws Exception {
+        ObjectMapper mapper = ApplicationMappers.json();
+        writer = mapper.writerFor(ProductsResponseDto.class);
+        reader = mapper.readerFor(ProductsResponseDto.class);
+
+        List<ProductDto> items = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            items.add(product(i));
+        }
+        products = new ProductsResponseDto();
+        products.setProducts(items);
+        products.setTotal(size);
+        products.setSkip(0);
+        products.setLimit(size);
+        json = writer.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public ProductsResponseDto deserialize() throws Exception {
+        return reader.readValue(json);
+    }
+
+    private static ProductDto product(int i) {
+        String directory = "https://cdn.dummyjson.com/product-images/category-" + (i % 24) + "/product-" + i + "/";
+        ProductDto product = new ProductDto();
+        product.setId((long) i);
+        product.setTitle("Product " + i);
+        product.setDescription("Description of product " + i + " with the usual length of a catalog entry");
+        product.setPrice(9.99 + i % 1000);
+        product.setDiscountPercentage(7.5 + i % 10);
+        product.setRating(3.0 + (i % 20) / 10.0);
+        product.setStock(i % 150);
+        product.setBrand("Brand " + (i % 50));
+        product.setCategory("category-" + (i % 24));
+        product.setThumbnail(directory + "thumbnail.webp");
+        product.setImages(List.of(directory + "1.webp", directory + "2.webp", directory + "3.webp"));
+        return product;
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.salazar.benchmark;
+
+import br.com.salazar.model.dto.ProductDto;
+import br.com.salazar.model.dto.ProductsResponseDto;
+import br.com.salazar.service.upstream.JsonPageReader;
+import br.com.salazar.support.ApplicationMappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura de uma página de produtos no formato do dummyjson: JsonPageReader em
+ * streaming contra a deserialização completa em ProductsResponseDto (o caminho
+ * anterior, via ResponseEntity&lt;ProductsResponseDto&gt; do RestTemplate)
+ *
+ * Cada produto traz os campos que a API externa envia e que não mantemos
+ * (tags, dimensions, reviews, meta...). O mapper é o da aplicação (ver
+ * ApplicationMappers). Rodar com {@code -prof gc} para comparar os bytes
+ * alocados por página.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpstreamPageBenchmark {
+
+    @Param({"30", "194"})
+    public int size;
+
+    private ObjectReader responseReader;
+    private JsonPageReader pageReader;
+    private byte[] page;
+
+    @Setup
+    public void setup() throws Exception {
+        ObjectMapper mapper = ApplicationMappers.json();
+        responseReader = mapper.readerFor(ProductsResponseDto.class);
+        pageReader = new JsonPageReader(mapper);
+
+        List<Map<String, Object>> products = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            products.add(upstreamProduct(i));
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("products", products);
+        body.put("total", size);
+        body.put("skip", 0);
+        body.put("limit", size);
+        page = new ObjectMapper().writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public List<ProductDto> responseDto() throws Exception {
+        ProductsResponseDto response = responseReader.readValue(new ByteArrayInputStream(page));
+        return response.getProducts();
+    }
+
+    @Benchmark
+    public List<ProductDto> pageReader() throws Exception {
+        List<ProductDto> products = new ArrayList<>(size);
+        pageReader.read(new ByteArrayInputStream(page), "products", ProductDto.class, products::add);
+        return products;
+    }
+
+    // Produto como o dummyjson devolve, com os campos que o ProductDto não declara
+    private static Map<String, Object> upstreamProduct(int i) {
+        String directory = "https://cdn.dummyjson.com/product-images/category-" + (i % 24) + "/product-" + i + "/";
+        Map<String, Object> product = new LinkedHashMap<>();
+        product.put("id", i);
+        product.put("title", "Product " + i);
+        product.put("description", "Description of product " + i + " with the usual length of a catalog entry");
+        product.put("category", "category-" + (i % 24));
+        product.put("price", 9.99 + i % 1000);
+        product.put("discountPercentage", 7.5 + i % 10);
+        product.put("rating", 3.0 + (i % 20) / 10.0);
+        product.put("stock", i % 150);
+        product.put("tags", List.of("tag-" + (i % 7), "tag-" + (i % 11)));
+        product.put("brand", "Brand " + (i % 50));
+        product.put("sku", "SKU-" + i);
+        product.put("weight", i % 10);
+        product.put("dimensions", Map.of("width", 15.14, "height", 13.08, "depth", 22.99));
+        product.put("warrantyInformation", "1 month warranty");
+        product.put("shippingInformation", "Ships in 1 month");
+        product.put("availabilityStatus", "In Stock");
+        List<Map<String, Object>> reviews = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            Map<String, Object> review = new LinkedHashMap<>();
+            review.put("rating", 1 + (i + r) % 5);
+            review.put("comment", "Review " + r + " of product " + i);
+            review.put("date", "2024-05-23T08:56:21.618Z");
+            review.put("reviewerName", "Reviewer " + r);
+            review.put("reviewerEmail", "reviewer" + r + "@x.com");
+            reviews.add(review);
+        }
+        product.put("reviews", reviews);
+        product.put("returnPolicy", "30 days return policy");
+        product.put("minimumOrderQuantity", 24);
+        product.put("meta", Map.of("createdAt", "2024-05-23T08:56:21.618Z", "updatedAt", "2024-05-23T08:56:21.618Z",
+                "barcode", "9164035109868", "qrCode", "https://assets.dummyjson.com/public/qr-code.png"));
+        product.put("images", List.of(directory + "1.webp", directory + "2.webp", directory + "3.webp"));
+        product.put("thumbnail", directory + "thumbnail.webp");
+        return product;
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.salazar.support;
+
+import br.com.salazar.config.BinaryFormatsConfig;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ObjectMappers com a configuração da aplicação, para testes e benchmarks que
+ * não sobem o contexto do Spring
+ *
+ * Reproduz o Jackson2ObjectMapperBuilder que o Spring Boot monta: spring.jackson
+ * do application.yml (SNAKE_CASE e NON_NULL), datas como texto e os módulos que
+ * o builder registra sozinho (JavaTimeModule etc.). Os mappers CBOR e Smile
+ * saem dos próprios conversores do BinaryFormatsConfig.
+ *
+ * @author Gabriel Salazar
+ * @version 1.0
+ * @since 2025-09-01
+ */
+public final class ApplicationMappers {
+
+    private ApplicationMappers() {
+    }
+
+    /**
+     * Builder equivalente ao da aplicação; cada chamada devolve um novo
+     */
+    public static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json()
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+    }
+
+    /**
+     * ObjectMapper JSON da aplicação
+     */
+    public static ObjectMapper json() {
+        return builder().build();
+    }
+
+    /**
+     * ObjectMapper do conversor CBOR registrado pelo BinaryFormatsConfig
+     */
+    public static ObjectMapper cbor() {
+        return binaryConverter(MappingJackson2CborHttpMessageConverter.class).getObjectMapper();
+    }
+
+    /**
+     * ObjectMapper do conversor Smile registrado pelo BinaryFormatsConfig
+     */
+    public static ObjectMapper smile() {
+        return binaryConverter(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper();
+    }
+
+    // O builder é prototype no Spring Boot: cada conversor recebe o seu
+    private static <T extends AbstractJackson2HttpMessageConverter> T binaryConverter(Class<T> type) {
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerBeanDefinition("jacksonObjectMapperBuilder", BeanDefinitionBuilder
+                .genericBeanDefinition(Jackson2ObjectMapperBuilder.class, ApplicationMappers::builder)
+                .setScope(BeanDefinition.SCOPE_PROTOTYPE)
+                .getBeanDefinition());
+
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        new BinaryFormatsConfig(beans.getBeanProvider(Jackson2ObjectMapperBuilder.class))
+                .extendMessageConverters(converters);
+        return converters.stream()
+                .filter(type::isInstance)
+                .map(type::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+}
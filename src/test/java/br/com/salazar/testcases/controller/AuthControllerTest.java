@@ -2,8 +2,13 @@ package br.com.salazar.testcases.controller;
 
 import br.com.salazar.controller.AuthController;
 import br.com.salazar.model.dto.LoginRequestDto;
+import br.com.salazar.exception.AuthenticationException;
 import br.com.salazar.model.dto.LoginResponseDto;
+import br.com.salazar.model.dto.RefreshTokenRequestDto;
+import br.com.salazar.model.dto.RefreshTokenResponseDto;
 import br.com.salazar.service.AuthService;
+import br.com.salazar.service.auth.LoginRateLimiter;
+import br.com.salazar.service.auth.TokenSessionManager;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +21,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -29,6 +35,12 @@ class AuthControllerTest {
     @MockBean
     private AuthService authService;
 
+    @MockBean
+    private TokenSessionManager sessions;
+
+    @MockBean
+    private LoginRateLimiter rateLimiter;
+
     private ObjectMapper objectMapper = new ObjectMapper();
     private LoginResponseDto dummyResponse;
 
@@ -77,4 +89,42 @@ class AuthControllerTest {
 
         verify(authService, times(1)).authenticate(any());
     }
+
+    @Test
+    @DisplayName("login over the rate limit returns 429 with Retry-After and skips upstream")
+    void login_RateLimited_ReturnsTooManyRequests() throws Exception {
+        when(rateLimiter.tryAcquire(eq("emilys"), any())).thenReturn(12L);
+
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequestDto("emilys", "emilyspass"))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "12"));
+
+        verify(authService, never()).authenticate(any());
+    }
+
+    @Test
+    @DisplayName("refresh with a tracked refresh token returns 200 with the new token pair")
+    void refresh_ValidRefreshToken_ReturnsOk() throws Exception {
+        when(sessions.refresh("refresh123")).thenReturn(new RefreshTokenResponseDto("token456", "refresh456"));
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequestDto("refresh123"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("token456"))
+                .andExpect(jsonPath("$.refreshToken").value("refresh456"));
+    }
+
+    @Test
+    @DisplayName("refresh with a rejected refresh token returns 401 Unauthorized")
+    void refresh_RejectedRefreshToken_ReturnsUnauthorized() throws Exception {
+        when(sessions.refresh(any())).thenThrow(new AuthenticationException("Invalid or expired refresh token"));
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequestDto("expired"))))
+                .andExpect(status().isUnauthorized());
+    }
 }
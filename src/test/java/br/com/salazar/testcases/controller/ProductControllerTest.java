@@ -7,6 +7,7 @@ import br.com.salazar.model.dto.ProductsResponseDto;
 import br.com.salazar.service.ProductService;
 import br.com.salazar.service.ProductService.ForbiddenException;
 import br.com.salazar.service.ProductService.UnauthorizedException;
+import br.com.salazar.service.auth.JwtVerifier;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +18,6 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.math.BigDecimal;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -33,6 +33,9 @@ class ProductControllerTest {
     @MockBean
     ProductService productService;
 
+    @MockBean
+    JwtVerifier jwtVerifier;
+
     ObjectMapper om = new ObjectMapper();
 
     @Test
@@ -68,6 +71,20 @@ class ProductControllerTest {
                 .andExpect(content().string("Invalid/Expired Token!"));
     }
 
+    @Test
+    @DisplayName("getProducts rejected by local token validation returns 401 without calling upstream")
+    void getProducts_RejectedLocally_Returns401WithoutUpstreamCall() throws Exception {
+        when(jwtVerifier.verify("expired")).thenThrow(new UnauthorizedException("Token Expired!"));
+
+        mockMvc.perform(get("/auth/products")
+                        .header("Authorization", "Bearer expired")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().string("Token Expired!"));
+
+        verify(productService, never()).getProducts(any(String.class));
+    }
+
     @Test
     @DisplayName("getProducts throws ForbiddenException returns 403")
     void getProducts_ThrowsForbiddenException_Returns403() throws Exception {
@@ -87,9 +104,9 @@ class ProductControllerTest {
         // FIXED: Usar ProductDto em vez de ProductResponseDto
         ProductDto resp = new ProductDto();
         resp.setId(101L);
-        resp.setName("Perfume Oil"); // name em vez de title
-        resp.setPrice(new BigDecimal("13.0")); // BigDecimal em vez de Double
-        resp.setStockQuantity(65); // stockQuantity em vez de stock
+        resp.setTitle("Perfume Oil");
+        resp.setPrice(13.0);
+        resp.setStock(65);
         resp.setDescription("Mega Discount, Impression A...");
         resp.setBrand("Impression of Acqua Di Gio");
         resp.setCategory("fragrances");
@@ -1,11 +1,19 @@
 package br.com.salazar.testcases.controller;
 
 import br.com.salazar.controller.ProductPublicController;
+import br.com.salazar.exception.ProductNotFoundException;
+import br.com.salazar.model.dto.PriceBucketDto;
 import br.com.salazar.model.dto.ProductDto;
+import br.com.salazar.model.dto.ProductPricingResponseDto;
 import br.com.salazar.model.dto.ProductCreateRequestDto;
+import br.com.salazar.model.dto.ProductsBatchResponseDto;
 import br.com.salazar.model.dto.ProductsResponseDto;
+import br.com.salazar.service.ProductCatalogService;
 import br.com.salazar.service.ProductService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,9 +22,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
-import java.math.BigDecimal;
+import java.io.OutputStream;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -31,6 +42,12 @@ class ProductPublicControllerTest {
     @MockBean
     ProductService productService; // FIXED: Corrigido nome do service
 
+    @MockBean
+    ProductCatalogService productCatalogService;
+
+    static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
     @Autowired
     ObjectMapper om;
 
@@ -52,15 +69,15 @@ class ProductPublicControllerTest {
     void getProductById_Returns200() throws Exception {
         ProductDto dto = new ProductDto();
         dto.setId(1L);
-        dto.setName("Essence Mascara Lash Princess"); // FIXED: name em vez de title
-        dto.setPrice(new BigDecimal("12.99")); // FIXED: BigDecimal
+        dto.setTitle("Essence Mascara Lash Princess");
+        dto.setPrice(12.99);
 
         when(productService.getProductById(1L)).thenReturn(dto);
 
         mockMvc.perform(get("/products/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1))
-                .andExpect(jsonPath("$.name").value("Essence Mascara Lash Princess")); // name, não title
+                .andExpect(jsonPath("$.title").value("Essence Mascara Lash Princess"));
 
         verify(productService, times(1)).getProductById(1L);
     }
@@ -82,12 +99,12 @@ class ProductPublicControllerTest {
 
         ProductDto responseDto = new ProductDto();
         responseDto.setId(123L);
-        responseDto.setName("New Product");
+        responseDto.setTitle("New Product");
         responseDto.setDescription("A great product");
-        responseDto.setPrice(new BigDecimal("99.99"));
+        responseDto.setPrice(99.99);
         responseDto.setBrand("TestBrand");
         responseDto.setCategory("electronics");
-        responseDto.setStockQuantity(50);
+        responseDto.setStock(50);
 
         when(productService.createProduct(any(ProductCreateRequestDto.class))).thenReturn(responseDto);
 
@@ -97,8 +114,245 @@ class ProductPublicControllerTest {
                         .content(om.writeValueAsString(request)))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.id").value(123))
-                .andExpect(jsonPath("$.name").value("New Product"));
+                .andExpect(jsonPath("$.title").value("New Product"));
 
         verify(productService, times(1)).createProduct(any(ProductCreateRequestDto.class));
     }
+
+    @Test
+    @DisplayName("suggest returns 200 OK with catalog suggestions")
+    void suggest_Returns200() throws Exception {
+        when(productCatalogService.suggest("ess", 5))
+                .thenReturn(List.of("Essence Mascara Lash Princess"));
+
+        mockMvc.perform(get("/products/suggest")
+                        .param("prefix", "ess")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.prefix").value("ess"))
+                .andExpect(jsonPath("$.suggestions[0]").value("Essence Mascara Lash Princess"));
+
+        verify(productCatalogService, times(1)).suggest("ess", 5);
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    @DisplayName("search returns 200 OK with fuzzy matches")
+    void search_Returns200() throws Exception {
+        ProductDto dto = new ProductDto();
+        dto.setId(1L);
+        dto.setTitle("Samsung Galaxy S24");
+        ProductsResponseDto response = new ProductsResponseDto();
+        response.setProducts(List.of(dto));
+        response.setTotal(1);
+
+        when(productCatalogService.search("samsng", 30)).thenReturn(response);
+
+        mockMvc.perform(get("/products/search").param("q", "samsng"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.products[0].title").value("Samsung Galaxy S24"));
+
+        verify(productCatalogService, times(1)).search("samsng", 30);
+    }
+
+    @Test
+    @DisplayName("filter returns 200 OK with the page served from the catalog columns")
+    void filter_Returns200() throws Exception {
+        ProductDto dto = new ProductDto();
+        dto.setId(3L);
+        ProductsResponseDto response = new ProductsResponseDto();
+        response.setProducts(List.of(dto));
+        response.setTotal(12);
+
+        when(productCatalogService.filter("smartphones", null, 100.0, null, null, true, "price", "desc", 5))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/products/filter")
+                        .param("category", "smartphones")
+                        .param("minPrice", "100")
+                        .param("inStock", "true")
+                        .param("sort", "price")
+                        .param("order", "desc")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(12))
+                .andExpect(jsonPath("$.products[0].id").value(3));
+
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    @DisplayName("getPricing returns 200 OK with inventory totals and histogram")
+    void getPricing_Returns200() throws Exception {
+        ProductPricingResponseDto response = new ProductPricingResponseDto();
+        response.setPricedProducts(194L);
+        response.setFinalPriceHistogram(List.of(new PriceBucketDto(0.0, 100.0, 150L)));
+
+        when(productCatalogService.pricing(100.0, 10)).thenReturn(response);
+
+        mockMvc.perform(get("/products/pricing")
+                        .param("bucketWidth", "100")
+                        .param("buckets", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pricedProducts").value(194))
+                .andExpect(jsonPath("$.finalPriceHistogram[0].count").value(150));
+    }
+
+    @Test
+    @DisplayName("getProductsByIds returns 200 OK with products and not-found markers")
+    void getProductsByIds_Returns200() throws Exception {
+        ProductDto dto = new ProductDto();
+        dto.setId(1L);
+        when(productService.getProductsByIds(List.of(1L, 42L)))
+                .thenReturn(new ProductsBatchResponseDto(List.of(dto), List.of(42L), List.of()));
+
+        mockMvc.perform(get("/products").param("ids", "1,42"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[0].id").value(1))
+                .andExpect(jsonPath("$.notFound[0]").value(42));
+
+        verify(productService, never()).getAllProducts();
+    }
+
+    @Test
+    @DisplayName("getSimilarProducts returns 200 OK with recommendations")
+    void getSimilarProducts_Returns200() throws Exception {
+        ProductDto dto = new ProductDto();
+        dto.setId(2L);
+        ProductsResponseDto response = new ProductsResponseDto();
+        response.setProducts(List.of(dto));
+        response.setTotal(1);
+
+        when(productCatalogService.similar(1L, 5)).thenReturn(response);
+
+        mockMvc.perform(get("/products/1/similar").param("k", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products[0].id").value(2));
+
+        verify(productCatalogService, times(1)).similar(1L, 5);
+    }
+
+    @Test
+    @DisplayName("streamAllProducts returns the catalog as NDJSON")
+    void streamAllProducts_ReturnsNdjson() throws Exception {
+        when(productCatalogService.streamCatalog(any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes());
+            return 2L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/products/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+
+        verify(productService, never()).getAllProducts();
+    }
+
+    @Test
+    @DisplayName("getProductById returns CBOR when the client asks for it")
+    void getProductById_AcceptCbor_ReturnsCbor() throws Exception {
+        ProductDto dto = new ProductDto();
+        dto.setId(1L);
+        dto.setTitle("Essence Mascara Lash Princess");
+        when(productService.getProductById(1L)).thenReturn(dto);
+
+        MvcResult result = mockMvc.perform(get("/products/1").accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn();
+
+        ProductDto decoded = new CBORMapper().readValue(result.getResponse().getContentAsByteArray(), ProductDto.class);
+        assertThat(decoded.getId()).isEqualTo(1L);
+        assertThat(decoded.getTitle()).isEqualTo("Essence Mascara Lash Princess");
+    }
+
+    @Test
+    @DisplayName("createProduct accepts a Smile body and answers in Smile")
+    void createProduct_SmileBody_ReturnsSmile() throws Exception {
+        ProductCreateRequestDto request = new ProductCreateRequestDto();
+        request.setTitle("New Product");
+        request.setDescription("A great product");
+        request.setPrice(99.99);
+        request.setDiscountPercentage(10.0);
+        request.setRating(4.5);
+        request.setStock(50);
+        request.setBrand("TestBrand");
+        request.setCategory("electronics");
+        request.setThumbnail("https://example.com/image.jpg");
+
+        ProductDto created = new ProductDto();
+        created.setId(123L);
+        created.setTitle("New Product");
+        when(productService.createProduct(any(ProductCreateRequestDto.class))).thenReturn(created);
+
+        SmileMapper smile = new SmileMapper();
+        MvcResult result = mockMvc.perform(post("/products/add")
+                        .contentType(SMILE)
+                        .accept(SMILE)
+                        .content(smile.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(SMILE))
+                .andReturn();
+
+        assertThat(smile.readValue(result.getResponse().getContentAsByteArray(), ProductDto.class).getId())
+                .isEqualTo(123L);
+        verify(productService).createProduct(argThat(body -> "New Product".equals(body.getTitle())));
+    }
+
+    @Test
+    @DisplayName("search without q returns 400 instead of falling into the 500 handler")
+    void search_MissingQuery_Returns400() throws Exception {
+        mockMvc.perform(get("/products/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Bad Request"))
+                .andExpect(jsonPath("$.message").value("Required parameter 'q' is missing"));
+
+        verifyNoInteractions(productCatalogService);
+    }
+
+    @Test
+    @DisplayName("non-numeric product id returns 400")
+    void getProductById_InvalidId_Returns400() throws Exception {
+        mockMvc.perform(get("/products/abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("Parameter 'id' must be of type Long"));
+
+        verify(productService, never()).getProductById(any());
+    }
+
+    @Test
+    @DisplayName("Accept with no producible format returns 406 with a JSON body")
+    void getProductById_UnsupportedAccept_Returns406() throws Exception {
+        ProductDto dto = new ProductDto();
+        dto.setId(1L);
+        when(productService.getProductById(1L)).thenReturn(dto);
+
+        mockMvc.perform(get("/products/1").accept(MediaType.parseMediaType("text/csv")))
+                .andExpect(status().isNotAcceptable())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.error").value("Not Acceptable"));
+    }
+
+    @Test
+    @DisplayName("business error for a CBOR client comes back as CBOR, not as the pre-serialized JSON")
+    void getProductById_NotFoundAcceptCbor_ReturnsCborError() throws Exception {
+        when(productService.getProductById(9L)).thenThrow(new ProductNotFoundException(9L));
+
+        MvcResult result = mockMvc.perform(get("/products/9").accept(CBOR))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(CBOR))
+                .andReturn();
+
+        JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("error").asText()).isEqualTo("Product Not Found");
+        assertThat(body.get("status").asInt()).isEqualTo(404);
+        assertThat(body.get("path").asText()).isEqualTo("/products/9");
+    }
 }
@@ -0,0 +1,61 @@
+package br.com.salazar.testcases.controller;
+
+import br.com.salazar.Application;
+import br.com.salazar.controller.TestController;
+import br.com.salazar.model.dto.TestResponseDto;
+import br.com.salazar.service.TestService;
+import br.com.salazar.service.timing.RequestTiming;
+import br.com.salazar.service.timing.RequestTiming.Phase;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TestController.class)
+@ContextConfiguration(classes = Application.class)
+@TestPropertySource(properties = "app.timing.server-timing=true")
+class ServerTimingFilterTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private TestService testService;
+
+    @AfterAll
+    static void disableTiming() {
+        RequestTiming.setEnabled(false);
+    }
+
+    @Test
+    @DisplayName("enabled timing adds a Server-Timing header with phases and keeps the body")
+    void shouldAddServerTimingHeader() throws Exception {
+        when(testService.getTestStatus()).thenAnswer(invocation -> {
+            long lookup = RequestTiming.start();
+            RequestTiming.stop(Phase.CACHE, lookup);
+            return new TestResponseDto("ok", "GET");
+        });
+
+        mvc.perform(get("/test").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ok"))
+                .andExpect(header().string("Server-Timing", containsString("cache;dur=")))
+                .andExpect(header().string("Server-Timing", containsString("serialization;dur=")))
+                .andExpect(header().string("Server-Timing", matchesPattern(".*total;dur=\\d+\\.\\d{3}$")));
+    }
+}
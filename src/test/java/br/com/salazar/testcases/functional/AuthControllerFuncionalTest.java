@@ -4,6 +4,8 @@ import br.com.salazar.controller.AuthController;
 import br.com.salazar.model.dto.LoginRequestDto;
 import br.com.salazar.model.dto.LoginResponseDto;
 import br.com.salazar.service.AuthService;
+import br.com.salazar.service.auth.LoginRateLimiter;
+import br.com.salazar.service.auth.TokenSessionManager;
 import br.com.salazar.exception.AuthenticationException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -37,6 +39,12 @@ class AuthControllerFunctionalTest {
     @MockBean
     private AuthService authService;
 
+    @MockBean
+    private TokenSessionManager sessions;
+
+    @MockBean
+    private LoginRateLimiter rateLimiter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
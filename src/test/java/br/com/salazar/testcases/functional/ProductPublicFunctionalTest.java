@@ -87,6 +87,7 @@
 
 package br.com.salazar.testcases.functional;
 
+import br.com.salazar.service.ProductCatalogService;
 import br.com.salazar.service.ProductService;
 import br.com.salazar.controller.ProductPublicController;
 import br.com.salazar.model.dto.ProductsResponseDto;
@@ -107,7 +108,6 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultMatcher;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -127,6 +127,9 @@ class ProductPublicFunctionalTest {
     @MockBean
     private ProductService productService;
 
+    @MockBean
+    private ProductCatalogService productCatalogService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -142,7 +145,9 @@ class ProductPublicFunctionalTest {
                 createValidProduct(2L, "Samsung Galaxy", 899.99),
                 createValidProduct(3L, "Google Pixel", 799.99)
         );
-        ProductsResponseDto response = new ProductsResponseDto(products, products.size());
+        ProductsResponseDto response = new ProductsResponseDto();
+        response.setProducts(products);
+        response.setTotal(products.size());
         when(productService.getAllProducts()).thenReturn(response);
 
         // When & Then
@@ -152,10 +157,10 @@ class ProductPublicFunctionalTest {
                 .andExpect(jsonPath("$.total").value(3))
                 .andExpect(jsonPath("$.products", hasSize(3))) // FIXED: items -> products
                 .andExpect(jsonPath("$.products[0].id").value(1))
-                .andExpect(jsonPath("$.products[0].name").value("iPhone 15"))
+                .andExpect(jsonPath("$.products[0].title").value("iPhone 15"))
                 .andExpect(jsonPath("$.products[0].price").value(999.99))
-                .andExpect(jsonPath("$.products[1].name").value("Samsung Galaxy"))
-                .andExpect(jsonPath("$.products[2].name").value("Google Pixel"))
+                .andExpect(jsonPath("$.products[1].title").value("Samsung Galaxy"))
+                .andExpect(jsonPath("$.products[2].title").value("Google Pixel"))
                 .andDo(print()); // ADDED: Para debugging
 
         verify(productService, times(1)).getAllProducts();
@@ -177,7 +182,7 @@ class ProductPublicFunctionalTest {
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(123))
-                .andExpect(jsonPath("$.name").value("New iPhone"))
+                .andExpect(jsonPath("$.title").value("New iPhone"))
                 .andExpect(jsonPath("$.price").value(1299.99))
                 .andDo(print()); // ADDED: Para debugging
 
@@ -201,12 +206,12 @@ class ProductPublicFunctionalTest {
 
         ProductDto savedProduct = new ProductDto();
         savedProduct.setId(456L);
-        savedProduct.setName("Complete Product");
+        savedProduct.setTitle("Complete Product");
         savedProduct.setDescription("Detailed description with special chars: àáâãäå");
-        savedProduct.setPrice(new BigDecimal("599.99"));
+        savedProduct.setPrice(599.99);
         savedProduct.setBrand("Premium Brand");
         savedProduct.setCategory("electronics");
-        savedProduct.setStockQuantity(100);
+        savedProduct.setStock(100);
 
         when(productService.createProduct(ArgumentMatchers.<ProductCreateRequestDto>any())).thenReturn(savedProduct);
 
@@ -369,10 +374,10 @@ class ProductPublicFunctionalTest {
 
         ProductDto sanitized = new ProductDto();
         sanitized.setId(789L);
-        sanitized.setName("Malicious Product");
+        sanitized.setTitle("Malicious Product");
         sanitized.setDescription("Description");
-        sanitized.setPrice(new BigDecimal("99.99"));
-        sanitized.setStockQuantity(10);
+        sanitized.setPrice(99.99);
+        sanitized.setStock(10);
         sanitized.setCategory("electronics");
         sanitized.setBrand("TechBrand");
 
@@ -384,7 +389,7 @@ class ProductPublicFunctionalTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.name").value("Malicious Product"))
+                .andExpect(jsonPath("$.title").value("Malicious Product"))
                 .andExpect(jsonPath("$.description").value("Description"))
                 .andExpect(result -> {
                     String responseBody = result.getResponse().getContentAsString();
@@ -414,12 +419,12 @@ class ProductPublicFunctionalTest {
     private ProductDto createValidProduct(Long id, String name, Double price) {
         ProductDto product = new ProductDto();
         product.setId(id);
-        product.setName(name);
+        product.setTitle(name);
         product.setDescription("High-quality electronic device");
-        product.setPrice(new BigDecimal(price.toString()));
+        product.setPrice(price);
         product.setBrand("TechBrand");
         product.setCategory("electronics");
-        product.setStockQuantity(50);
+        product.setStock(50);
         return product;
     }
 
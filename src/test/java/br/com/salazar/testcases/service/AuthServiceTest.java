@@ -84,4 +84,24 @@ class AuthServiceTest {
                 .isInstanceOf(AuthenticationException.class)
                 .hasMessageContaining("Invalid credentials");
     }
+
+    @Test
+    @DisplayName("authenticate keeps upstream 4xx other than 400/401 as HttpClientErrorException")
+    void authenticate_TooManyRequests_IsNotAuthenticationException() {
+        // Given
+        LoginRequestDto request = new LoginRequestDto("emilys", "emilyspass");
+        HttpClientErrorException ex = HttpClientErrorException.create(
+                HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+                HttpHeaders.EMPTY,
+                "{\"message\":\"Slow down\"}".getBytes(),
+                null);
+
+        when(restTemplate.exchange(anyString(), any(), any(), eq(LoginResponseDto.class)))
+                .thenThrow(ex);
+
+        // When & Then
+        assertThatThrownBy(() -> authService.authenticate(request))
+                .isInstanceOf(HttpClientErrorException.class)
+                .isNotInstanceOf(AuthenticationException.class);
+    }
 }
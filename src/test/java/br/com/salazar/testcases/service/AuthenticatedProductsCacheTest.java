@@ -0,0 +1,125 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.model.dto.ProductsResponseDto;
+import br.com.salazar.service.auth.AuthenticatedProductsCache;
+import br.com.salazar.service.auth.JwtVerifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AuthenticatedProductsCacheTest {
+
+    private static final long NOW = 1_750_000_000L;
+
+    private final MutableClock clock = new MutableClock(NOW * 1_000);
+    private final AuthenticatedProductsCache cache = new AuthenticatedProductsCache(
+            new JwtVerifier(new ObjectMapper(), "", 16, 0, clock), 60, 30, 16, clock);
+
+    @Test
+    @DisplayName("a token accepted upstream is served locally until its verification entry ages out")
+    void get_AcceptedToken_ServedUntilVerificationExpires() {
+        ProductsResponseDto body = new ProductsResponseDto();
+        String token = jwt(NOW + 3600);
+        cache.put(token, body);
+
+        assertThat(cache.get(token)).isSameAs(body);
+        assertThat(cache.get(jwt(NOW + 7200))).isNull();
+
+        clock.millis += 30_000;
+        assertThat(cache.get(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("verification never outlives the token exp")
+    void get_TokenExpiringSoon_NotServedAfterExp() {
+        String token = jwt(NOW + 5);
+        cache.put(token, new ProductsResponseDto());
+
+        clock.millis += 5_000;
+
+        assertThat(cache.get(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("invalidate drops the token verification")
+    void invalidate_DropsToken() {
+        String token = jwt(NOW + 3600);
+        cache.put(token, new ProductsResponseDto());
+
+        cache.invalidate(token);
+
+        assertThat(cache.get(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("cache hits and misses are emitted as JFR events while recording")
+    void get_EmitsJfrCacheEvents(@TempDir Path dir) throws Exception {
+        String token = jwt(NOW + 3600);
+        Path dump = dir.resolve("cache.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("br.com.salazar.Cache");
+            recording.start();
+            cache.get(token);
+            cache.put(token, new ProductsResponseDto());
+            cache.get(token);
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<String> operations = RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> "auth-products".equals(event.getString("cache")))
+                .map(event -> event.getString("operation"))
+                .toList();
+        assertThat(operations).containsExactly("MISS", "HIT");
+    }
+
+    private static String jwt(long exp) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(("{\"id\":1,\"exp\":" + exp + "}").getBytes(StandardCharsets.UTF_8))
+                + ".c2lnbmF0dXJl";
+    }
+
+    private static final class MutableClock extends Clock {
+        long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.model.dto.ProductDto;
+import br.com.salazar.service.catalog.CatalogColumns;
+import br.com.salazar.service.catalog.CatalogColumns.Query;
+import br.com.salazar.service.catalog.CatalogColumns.Sort;
+import br.com.salazar.service.catalog.CompactProduct;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CatalogColumnsTest {
+
+    private final CatalogColumns columns = CatalogColumns.of(List.of(
+            product(1, "smartphones", "Apple", 999.0, 4.5, 10),
+            product(2, "smartphones", "Samsung", 799.0, 4.8, 0),
+            product(3, "laptops", "Apple", 1999.0, 4.1, 2),
+            product(4, "smartphones", "Xiaomi", null, 3.9, 7),
+            product(5, "Smartphones", "Samsung", 299.0, null, 3)
+    ));
+
+    @Test
+    @DisplayName("of dictionary-encodes category and brand")
+    void of_EncodesCategoryAndBrand() {
+        assertThat(columns.size()).isEqualTo(5);
+        assertThat(columns.categoryCode(0)).isEqualTo(columns.categoryCode(1));
+        assertThat(columns.category(columns.categoryCode(2))).isEqualTo("laptops");
+        assertThat(columns.brand(columns.brandCode(1))).isEqualTo("Samsung");
+        assertThat(columns.brandCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("query filters by category and price range, sorting by price descending")
+    void query_FiltersAndSortsByPrice() {
+        CatalogColumns.Result result = columns.query(
+                new Query("smartphones", null, 500, Double.NaN, Double.NaN, false, Sort.PRICE, true, 10));
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(ids(result)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("query matches category ignoring case")
+    void query_MatchesCategoryIgnoringCase() {
+        CatalogColumns.Result result = columns.query(
+                new Query("SMARTPHONES", "samsung", Double.NaN, Double.NaN, Double.NaN, false, Sort.PRICE, false, 10));
+
+        assertThat(ids(result)).containsExactly(5L, 2L);
+    }
+
+    @Test
+    @DisplayName("query keeps only the best entries within the limit and counts every match")
+    void query_LimitsButCountsAllMatches() {
+        CatalogColumns.Result result = columns.query(
+                new Query(null, null, Double.NaN, Double.NaN, Double.NaN, true, Sort.RATING, true, 2));
+
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(ids(result)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("query returns nothing for an unknown brand")
+    void query_UnknownBrand_ReturnsEmpty() {
+        CatalogColumns.Result result = columns.query(
+                new Query(null, "Nokia", Double.NaN, Double.NaN, Double.NaN, false, null, false, 10));
+
+        assertThat(result.total()).isZero();
+        assertThat(result.ordinals()).isEmpty();
+    }
+
+    private long[] ids(CatalogColumns.Result result) {
+        long[] ids = new long[result.ordinals().length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = columns.id(result.ordinals()[i]);
+        }
+        return ids;
+    }
+
+    private static CompactProduct product(long id, String category, String brand, Double price, Double rating,
+                                          Integer stock) {
+        ProductDto dto = new ProductDto();
+        dto.setId(id);
+        dto.setCategory(category);
+        dto.setBrand(brand);
+        dto.setPrice(price);
+        dto.setRating(rating);
+        dto.setStock(stock);
+        return CompactProduct.of(dto);
+    }
+}
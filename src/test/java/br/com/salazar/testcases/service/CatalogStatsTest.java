@@ -0,0 +1,96 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.model.dto.ProductDto;
+import br.com.salazar.model.dto.ProductGroupStatsDto;
+import br.com.salazar.service.catalog.CatalogColumns;
+import br.com.salazar.service.catalog.CatalogStats;
+import br.com.salazar.service.catalog.CompactProduct;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CatalogStatsTest {
+
+    @Test
+    @DisplayName("of aggregates count, prices, rating and stock per category and brand")
+    void of_AggregatesPerGroup() {
+        CatalogStats stats = CatalogStats.of(CatalogColumns.of(List.of(
+                product("smartphones", "Apple", 999.0, 4.5, 10),
+                product("smartphones", "Samsung", 799.0, 4.0, 5),
+                product("laptops", "Apple", 1999.0, 5.0, 2)
+        )));
+
+        ProductGroupStatsDto phones = stats.categories().get("smartphones");
+        assertThat(phones.getCount()).isEqualTo(2L);
+        assertThat(phones.getMinPrice()).isEqualTo(799.0);
+        assertThat(phones.getAvgPrice()).isEqualTo(899.0);
+        assertThat(phones.getMaxPrice()).isEqualTo(999.0);
+        assertThat(phones.getAvgRating()).isEqualTo(4.25);
+        assertThat(phones.getTotalStock()).isEqualTo(15L);
+
+        assertThat(stats.brands().get("Apple").getCount()).isEqualTo(2L);
+        assertThat(stats.overall().getTotalStock()).isEqualTo(17L);
+    }
+
+    @Test
+    @DisplayName("add updates aggregates incrementally")
+    void add_UpdatesIncrementally() {
+        CatalogStats stats = CatalogStats.of(CatalogColumns.of(List.of(product("laptops", "Apple", 1999.0, 5.0, 2))));
+
+        stats.add(product("laptops", null, 499.0, null, 3));
+
+        ProductGroupStatsDto laptops = stats.categories().get("laptops");
+        assertThat(laptops.getCount()).isEqualTo(2L);
+        assertThat(laptops.getMinPrice()).isEqualTo(499.0);
+        assertThat(laptops.getAvgRating()).isEqualTo(5.0);
+        assertThat(laptops.getTotalStock()).isEqualTo(5L);
+        assertThat(stats.brands()).containsKey("unknown");
+    }
+
+    @Test
+    @DisplayName("groups beyond the cap are folded into 'other'")
+    void add_GroupCap_FoldsNewKeysIntoOther() {
+        CatalogStats stats = new CatalogStats(2);
+
+        stats.add(product("laptops", "Apple", 10.0, null, 1));
+        stats.add(product("phones", "Apple", 20.0, null, 1));
+        stats.add(product("tablets", "Apple", 30.0, null, 1));
+        stats.add(product("watches", "Apple", 40.0, null, 1));
+        stats.add(product("laptops", "Apple", 50.0, null, 1));
+
+        assertThat(stats.categories()).containsOnlyKeys("laptops", "phones", "other");
+        assertThat(stats.categories().get("other").getCount()).isEqualTo(2L);
+        assertThat(stats.categories().get("laptops").getCount()).isEqualTo(2L);
+        assertThat(stats.overall().getCount()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("price sums that overflow cents fall back to a double average instead of failing")
+    void add_PriceSumOverflow_KeepsAverage() {
+        CatalogStats stats = new CatalogStats();
+        stats.add(product("huge", "Brand", 5e16, null, 1));
+        stats.add(product("huge", "Brand", 5e16, null, 1));
+
+        ProductGroupStatsDto huge = stats.categories().get("huge");
+        assertThat(huge.getAvgPrice()).isCloseTo(5e16, within(1e3));
+        assertThat(huge.getMaxPrice()).isEqualTo(5e16);
+
+        CatalogStats sum = stats.plus(stats);
+        assertThat(sum.overall().getCount()).isEqualTo(4L);
+        assertThat(sum.overall().getAvgPrice()).isCloseTo(5e16, within(1e3));
+    }
+
+    private static CompactProduct product(String category, String brand, Double price, Double rating, Integer stock) {
+        ProductDto dto = new ProductDto();
+        dto.setCategory(category);
+        dto.setBrand(brand);
+        dto.setPrice(price);
+        dto.setRating(rating);
+        dto.setStock(stock);
+        return CompactProduct.of(dto);
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.model.dto.ProductDto;
+import br.com.salazar.service.catalog.CatalogColumns;
+import br.com.salazar.service.catalog.CompactProduct;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompactProductTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactProductTest.class);
+
+    @Test
+    @DisplayName("toDto restores every field of the original product")
+    void toDto_RoundTripsAllFields() {
+        ProductDto original = product(7);
+        original.setDescription("Descrição com acentuação e emoji \uD83D\uDCF1");
+
+        ProductDto restored = CompactProduct.of(original).toDto();
+
+        assertThat(restored).usingRecursiveComparison().isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("absent numeric fields and images stay null after the round trip")
+    void toDto_KeepsNullsAsNull() {
+        ProductDto original = new ProductDto();
+        original.setTitle("Sem preço");
+
+        CompactProduct compact = CompactProduct.of(original);
+        ProductDto restored = compact.toDto();
+
+        assertThat(compact.hasId()).isFalse();
+        assertThat(compact.price()).isNaN();
+        assertThat(restored.getId()).isNull();
+        assertThat(restored.getPrice()).isNull();
+        assertThat(restored.getDiscountPercentage()).isNull();
+        assertThat(restored.getRating()).isNull();
+        assertThat(restored.getStock()).isNull();
+        assertThat(restored.getImages()).isNull();
+        assertThat(restored.getDescription()).isNull();
+        assertThat(restored.getTitle()).isEqualTo("Sem preço");
+    }
+
+    @Test
+    @DisplayName("thumbnail and image URLs are rebuilt from the URL dictionary exactly as received")
+    void toDto_RebuildsUrls() {
+        ProductDto original = product(3);
+        original.getImages().add("https://other.cdn/3.png");
+        original.getImages().add("logo.png");
+        CompactProduct compact = CompactProduct.of(original);
+
+        ProductDto restored = compact.toDto();
+
+        assertThat(restored.getThumbnail()).isEqualTo(original.getThumbnail());
+        assertThat(restored.getImages()).containsExactlyElementsOf(original.getImages());
+        assertThat(compact.imageCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("catalog columns need at least 3.4x less heap than deserialized DTOs")
+    void compact_UsesLessHeapThanDto() {
+        List<ProductDto> dtos = new ArrayList<>();
+        CatalogColumns.Builder builder = CatalogColumns.builder();
+        for (int i = 1; i <= 1_000; i++) {
+            dtos.add(product(i));
+            builder.add(dtos.get(i - 1));
+        }
+        CatalogColumns columns = builder.build();
+
+        long before = GraphLayout.parseInstance(dtos.toArray()).totalSize();
+        long after = GraphLayout.parseInstance(columns).totalSize();
+        log.info("Heap de 1000 produtos: ProductDto {} bytes, CatalogColumns {} bytes ({}x)",
+                before, after, String.format("%.2f", (double) before / after));
+
+        // Medido: 808000 -> 230624 bytes (3.50x, compressed oops). Sem objeto por produto,
+        // sem String por URL ou descrição; sobram os títulos, compartilhados com o autocomplete
+        assertThat((double) before / after).isGreaterThanOrEqualTo(3.4);
+    }
+
+    @Test
+    @DisplayName("repeated category and brand values share a single instance in the columns")
+    void of_DeduplicatesRepeatedStrings() {
+        CatalogColumns.Builder builder = CatalogColumns.builder();
+        builder.add(product(1));
+        builder.add(product(11));
+        CatalogColumns columns = builder.build();
+
+        CompactProduct first = columns.product(0);
+        CompactProduct second = columns.product(1);
+
+        assertThat(first.category()).isSameAs(second.category());
+        assertThat(first.brand()).isSameAs(second.brand());
+    }
+
+    // Cada valor é uma instância nova, como acontece na deserialização pelo Jackson
+    private static ProductDto product(int i) {
+        String directory = "https://cdn.dummyjson.com/product-images/category-" + (i % 10) + "/product-" + i + "/";
+        ProductDto dto = new ProductDto();
+        dto.setId((long) i);
+        dto.setTitle("Product " + i);
+        dto.setDescription("Description " + i);
+        dto.setPrice((999 + i * 100) / 100.0);
+        dto.setDiscountPercentage(7.5 + i);
+        dto.setRating(4.2);
+        dto.setStock(1_000 + i);
+        dto.setBrand("Brand " + (i % 10));
+        dto.setCategory("category-" + (i % 10));
+        dto.setThumbnail(directory + "thumbnail.webp");
+        // Jackson preenche um ArrayList padrão, elemento a elemento
+        List<String> images = new ArrayList<>();
+        images.add(directory + "1.webp");
+        images.add(directory + "2.webp");
+        dto.setImages(images);
+        return dto;
+    }
+}
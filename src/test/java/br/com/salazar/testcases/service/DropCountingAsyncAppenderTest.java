@@ -0,0 +1,99 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.config.logging.DropCountingAsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DropCountingAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("app.Service");
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<ILoggingEvent> written = new CopyOnWriteArrayList<>();
+    private DropCountingAsyncAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+
+        // Escrita que trava no primeiro evento, deixando a fila encher
+        AppenderBase<ILoggingEvent> slow = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                writing.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.add(event);
+            }
+        };
+        slow.setContext(context);
+        slow.start();
+
+        appender = new DropCountingAsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(2);
+        appender.setDiscardingThreshold(0);
+        appender.setReportIntervalSeconds(0);
+        appender.addAppender(slow);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("drop report waits for queue space instead of being dropped with the events it reports")
+    void reportDrops_FullQueue_ReportsOnceThereIsRoom() throws Exception {
+        appender.doAppend(event("primeiro"));
+        assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+        appender.doAppend(event("segundo"));
+        appender.doAppend(event("terceiro"));
+        long before = DropCountingAsyncAppender.droppedEvents();
+
+        appender.doAppend(event("descartado"));
+        assertThat(DropCountingAsyncAppender.droppedEvents() - before).isEqualTo(1);
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (written.size() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        appender.doAppend(event("depois"));
+        appender.stop();
+
+        List<ILoggingEvent> reports = written.stream()
+                .filter(e -> e.getLevel() == Level.WARN)
+                .toList();
+        assertThat(reports).hasSize(1);
+        assertThat(reports.get(0).getArgumentArray()[0]).isEqualTo(1L);
+        assertThat(written).extracting(ILoggingEvent::getMessage).doesNotContain("descartado");
+    }
+
+    private ILoggingEvent event(String message) {
+        return new LoggingEvent(DropCountingAsyncAppenderTest.class.getName(), logger, Level.INFO, message, null, null);
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.config.metrics.EndpointAccountingFilter;
+import br.com.salazar.model.dto.EndpointCostDto;
+import br.com.salazar.model.dto.EndpointCostsResponseDto;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.*;
+
+class EndpointAccountingFilterTest {
+
+    private static final int ALLOCATION = 4 * 1024 * 1024;
+
+    private final EndpointAccountingFilter filter = new EndpointAccountingFilter(true);
+
+    @Test
+    @DisplayName("allocation and request count are attributed to the matched endpoint pattern")
+    void doFilter_AccountsAllocationPerEndpoint() throws Exception {
+        EndpointCostsResponseDto initial = filter.snapshot();
+        Assumptions.assumeTrue(initial.getAllocationSupported(), "JVM sem contador de alocação por thread");
+
+        for (long id = 1; id <= 2; id++) {
+            handle("/products/" + id, "/products/{id}");
+        }
+        handle("/missing", null);
+
+        EndpointCostsResponseDto snapshot = filter.snapshot();
+        EndpointCostDto byId = endpoint(snapshot, "GET /products/{id}");
+        assertThat(byId.getRequests()).isEqualTo(2L);
+        assertThat(byId.getAllocatedBytes()).isGreaterThanOrEqualTo(2L * ALLOCATION);
+        assertThat(byId.getAllocatedBytesPerRequest()).isGreaterThanOrEqualTo(ALLOCATION);
+        assertThat(endpoint(snapshot, "UNMATCHED").getRequests()).isEqualTo(1L);
+        assertThat(snapshot.getEndpoints().get(0).getEndpoint()).isEqualTo("GET /products/{id}");
+    }
+
+    private void handle(String uri, String pattern) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                if (pattern != null) {
+                    req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+                    byte[] payload = new byte[ALLOCATION];
+                    req.setAttribute("payload", payload);
+                }
+            }
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(servlet));
+    }
+
+    private static EndpointCostDto endpoint(EndpointCostsResponseDto snapshot, String name) {
+        return snapshot.getEndpoints().stream()
+                .filter(endpoint -> endpoint.getEndpoint().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Endpoint não registrado: " + name));
+    }
+}
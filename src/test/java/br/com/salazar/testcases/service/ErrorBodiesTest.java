@@ -0,0 +1,109 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.exception.ErrorBodies;
+import br.com.salazar.exception.ErrorTraceSampling;
+import br.com.salazar.exception.ProductNotFoundException;
+import br.com.salazar.model.dto.ErrorResponseDto;
+import br.com.salazar.support.ApplicationMappers;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ErrorBodiesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ErrorBodies errorBodies = new ErrorBodies();
+
+    @AfterEach
+    void restoreSampling() {
+        ErrorTraceSampling.setSampleEvery(1000);
+    }
+
+    @Test
+    @DisplayName("pre-serialized body has the same fields as ErrorResponseDto and escapes text")
+    void write_ProducesValidErrorJson() throws Exception {
+        ErrorBodies.Template template = errorBodies.template(HttpStatus.BAD_REQUEST, "Validation Failed");
+
+        JsonNode body = objectMapper.readTree(template.write("Campo \"title\"\ninválido",
+                List.of("title: não pode ser vazio", "price: \\ inválido"), "/products/add"));
+
+        assertThat(body.get("error").asText()).isEqualTo("Validation Failed");
+        assertThat(body.get("status").asInt()).isEqualTo(400);
+        assertThat(body.get("message").asText()).isEqualTo("Campo \"title\"\ninválido");
+        assertThat(body.get("path").asText()).isEqualTo("/products/add");
+        assertThat(LocalDateTime.parse(body.get("timestamp").asText())).isNotNull();
+        assertThat(body.get("details")).extracting(JsonNode::asText)
+                .containsExactly("title: não pode ser vazio", "price: \\ inválido");
+    }
+
+    @Test
+    @DisplayName("details are omitted when absent")
+    void write_OmitsNullDetails() throws Exception {
+        ErrorBodies.Template template = errorBodies.template(HttpStatus.NOT_FOUND, "Product Not Found");
+
+        JsonNode body = objectMapper.readTree(template.write("Product not found with id: 9", null, "/products/9"));
+
+        assertThat(template.status()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(body.has("details")).isFalse();
+        assertThat(body.get("status").asInt()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("null message and path are omitted like the NON_NULL DTO serialization")
+    void write_OmitsNullFields() throws Exception {
+        ErrorBodies.Template template = errorBodies.template(HttpStatus.UNAUTHORIZED, "Unauthorized");
+
+        byte[] written = template.write(null, null, null);
+        JsonNode body = objectMapper.readTree(written);
+
+        assertThat(new String(written, StandardCharsets.UTF_8)).doesNotContain("null");
+        assertThat(body.has("message")).isFalse();
+        assertThat(body.has("path")).isFalse();
+        assertThat(body.get("error").asText()).isEqualTo("Unauthorized");
+        assertThat(body.get("status").asInt()).isEqualTo(401);
+        assertThat(body.has("timestamp")).isTrue();
+    }
+
+    @Test
+    @DisplayName("timestamp has the same text as the application mapper writes for ErrorResponseDto")
+    void write_TimestampMatchesJacksonFormat() throws Exception {
+        ObjectMapper applicationMapper = ApplicationMappers.json();
+        for (String instant : List.of("2025-09-01T10:00:00Z", "2025-09-01T10:00:05.120Z", "2025-09-01T10:07:00.001Z")) {
+            Clock clock = Clock.fixed(Instant.parse(instant), ZoneOffset.UTC);
+            ErrorBodies.Template template = new ErrorBodies(clock).template(HttpStatus.NOT_FOUND, "Product Not Found");
+            ErrorResponseDto dto = ErrorResponseDto.builder()
+                    .timestamp(LocalDateTime.now(clock))
+                    .build();
+
+            String fast = objectMapper.readTree(template.write("m", null, "/p")).get("timestamp").asText();
+            String jackson = applicationMapper.readTree(applicationMapper.writeValueAsBytes(dto)).get("timestamp").asText();
+
+            assertThat(fast).isEqualTo(jackson);
+        }
+    }
+
+    @Test
+    @DisplayName("business exceptions capture a stack trace only for sampled occurrences")
+    void exceptions_CaptureTraceOnlyWhenSampled() {
+        ErrorTraceSampling.setSampleEvery(Integer.MAX_VALUE);
+        new ProductNotFoundException(0L);
+
+        ProductNotFoundException unsampled = new ProductNotFoundException(1L);
+
+        assertThat(unsampled.getStackTrace()).isEmpty();
+        assertThat(unsampled.getMessage()).contains("1");
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.model.dto.UserDto;
+import br.com.salazar.service.upstream.JsonPageReader;
+import br.com.salazar.support.ApplicationMappers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JsonPageReaderTest {
+
+    private final JsonPageReader reader = new JsonPageReader(ApplicationMappers.json());
+
+    @Test
+    @DisplayName("read emits each item and skips fields the DTO does not declare")
+    void read_EmitsItemsAndSkipsUnknownSubtrees() throws IOException {
+        String body = "{\"users\":["
+                + "{\"id\":1,\"firstName\":\"Emily\",\"lastName\":\"Johnson\",\"email\":\"emily@x.com\","
+                + "\"address\":{\"city\":\"Phoenix\",\"coordinates\":{\"lat\":1.0}},\"crypto\":{\"coin\":\"BTC\"}},"
+                + "{\"id\":2,\"firstName\":\"Michael\",\"hair\":{\"color\":\"Brown\"}}"
+                + "],\"total\":208,\"skip\":0,\"limit\":30,\"extra\":[1,{\"a\":2}]}";
+
+        List<UserDto> users = new ArrayList<>();
+        JsonPageReader.Page page = reader.read(new ByteArrayInputStream(body.getBytes()), "users", UserDto.class, users::add);
+
+        assertThat(users).extracting(UserDto::getFirstName).containsExactly("Emily", "Michael");
+        assertThat(users.get(0).getLastName()).isEqualTo("Johnson");
+        assertThat(users.get(0).getEmail()).isEqualTo("emily@x.com");
+        assertThat(page.count()).isEqualTo(2);
+        assertThat(page.total()).isEqualTo(208);
+        assertThat(page.limit()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("read rejects bodies that are not a JSON object")
+    void read_InvalidEnvelope_Throws() {
+        assertThatThrownBy(() -> reader.read(new ByteArrayInputStream("[1,2]".getBytes()), "users", UserDto.class, u -> {}))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.service.ProductService.UnauthorizedException;
+import br.com.salazar.service.auth.JwtVerifier;
+import br.com.salazar.service.auth.TokenClaims;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtVerifierTest {
+
+    private static final String SECRET = "test-secret";
+    private static final long NOW = 1_750_000_000L;
+    private static final Clock CLOCK = Clock.fixed(Instant.ofEpochSecond(NOW), ZoneOffset.UTC);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("verify returns the claims of a well-formed, unexpired token")
+    void verify_ValidToken_ReturnsClaims() throws Exception {
+        JwtVerifier verifier = new JwtVerifier(objectMapper, SECRET, 16, 30, CLOCK);
+
+        TokenClaims claims = verifier.verify(token(SECRET, NOW + 3600));
+
+        assertThat(claims.userId()).isEqualTo(1L);
+        assertThat(claims.username()).isEqualTo("emilys");
+        assertThat(claims.expiresAt()).isEqualTo(NOW + 3600);
+    }
+
+    @Test
+    @DisplayName("verify rejects expired tokens beyond the clock skew")
+    void verify_ExpiredToken_Throws() throws Exception {
+        JwtVerifier verifier = new JwtVerifier(objectMapper, SECRET, 16, 30, CLOCK);
+
+        assertThatCode(() -> verifier.verify(token(SECRET, NOW - 10))).doesNotThrowAnyException();
+        assertThatThrownBy(() -> verifier.verify(token(SECRET, NOW - 60)))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("Token Expired!");
+    }
+
+    @Test
+    @DisplayName("verify rejects malformed tokens and tokens signed with another key")
+    void verify_MalformedOrForgedToken_Throws() throws Exception {
+        JwtVerifier verifier = new JwtVerifier(objectMapper, SECRET, 16, 30, CLOCK);
+
+        assertThatThrownBy(() -> verifier.verify("token123")).isInstanceOf(UnauthorizedException.class);
+        assertThatThrownBy(() -> verifier.verify("a.b.c")).isInstanceOf(UnauthorizedException.class);
+        assertThatThrownBy(() -> verifier.verify(token("other-secret", NOW + 3600)))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("Invalid/Expired Token!");
+    }
+
+    @Test
+    @DisplayName("without a configured secret the signature is not checked")
+    void verify_WithoutSecret_SkipsSignature() throws Exception {
+        JwtVerifier verifier = new JwtVerifier(objectMapper, "", 16, 30, CLOCK);
+
+        assertThat(verifier.verify(token("any-key", NOW + 3600)).username()).isEqualTo("emilys");
+    }
+
+    @Test
+    @DisplayName("cached verdicts still re-check expiry as time passes")
+    void verify_CachedToken_ReevaluatesExpiry() throws Exception {
+        MutableClock clock = new MutableClock(NOW);
+        JwtVerifier verifier = new JwtVerifier(objectMapper, SECRET, 16, 0, clock);
+        String token = token(SECRET, NOW + 5);
+
+        verifier.verify(token);
+        clock.now = NOW + 5;
+
+        assertThatThrownBy(() -> verifier.verify(token)).hasMessage("Token Expired!");
+    }
+
+    private static String token(String key, long exp) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"id\":1,\"username\":\"emilys\",\"iat\":" + (exp - 3600)
+                + ",\"exp\":" + exp + "}").getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String signature = encoder.encodeToString(mac.doFinal((header + "." + payload).getBytes(StandardCharsets.US_ASCII)));
+        return header + "." + payload + "." + signature;
+    }
+
+    private static final class MutableClock extends Clock {
+        long now;
+
+        MutableClock(long now) {
+            this.now = now;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochSecond(now);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+    }
+}
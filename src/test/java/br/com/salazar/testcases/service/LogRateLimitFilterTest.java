@@ -0,0 +1,84 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.config.logging.LogRateLimitFilter;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LogRateLimitFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private long now = TimeUnit.HOURS.toNanos(1);
+    private LogRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.DEBUG);
+        filter = new LogRateLimitFilter(() -> now);
+        filter.setContext(context);
+        filter.addLimit("app.sampled:0:10");
+        filter.addLimit("app.limited:5:1");
+        filter.addLimit("app.limited.quiet:0:1");
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("sampling keeps one event in N for the logger and its children")
+    void decide_SamplesOneInN() {
+        Logger child = context.getLogger("app.sampled.Child");
+
+        assertThat(accepted(child, Level.INFO, 100)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("rate limit admits a one-second burst and refills over time")
+    void decide_LimitsRatePerLogger() {
+        Logger logger = context.getLogger("app.limited.Service");
+
+        assertThat(accepted(logger, Level.WARN, 20)).isEqualTo(5);
+
+        now += TimeUnit.MILLISECONDS.toNanos(400);
+        assertThat(accepted(logger, Level.WARN, 20)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("errors, unconfigured loggers and the most specific rule pass through")
+    void decide_IgnoresErrorsAndUsesLongestPrefix() {
+        assertThat(accepted(context.getLogger("app.limited.Service"), Level.ERROR, 50)).isEqualTo(50);
+        assertThat(accepted(context.getLogger("other.Logger"), Level.INFO, 50)).isEqualTo(50);
+        assertThat(accepted(context.getLogger("app.limited.quiet.Job"), Level.INFO, 50)).isEqualTo(50);
+        assertThat(accepted(context.getLogger("app.limitedness"), Level.INFO, 50)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("isEnabled checks and disabled levels do not consume the quota")
+    void decide_DoesNotCountChecksOrDisabledLevels() {
+        Logger logger = context.getLogger("app.limited.Service");
+        logger.setLevel(Level.INFO);
+        for (int i = 0; i < 20; i++) {
+            filter.decide(null, logger, Level.INFO, null, null, null);
+            filter.decide(null, logger, Level.DEBUG, "debug", null, null);
+        }
+
+        assertThat(accepted(logger, Level.INFO, 20)).isEqualTo(5);
+    }
+
+    private int accepted(Logger logger, Level level, int events) {
+        int accepted = 0;
+        for (int i = 0; i < events; i++) {
+            if (filter.decide(null, logger, level, "evento {}", new Object[]{i}, null) != FilterReply.DENY) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+}
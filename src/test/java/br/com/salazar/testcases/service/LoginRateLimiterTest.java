@@ -0,0 +1,64 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.service.auth.LoginRateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("a user gets a burst of capacity attempts, then waits for the refill")
+    void tryAcquire_PerUserBurstThenThrottles() {
+        LoginRateLimiter limiter = new LoginRateLimiter(true, 5, 5, 100, 100, 1024, nanos::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("emilys", "10.0.0." + i)).isZero();
+        }
+        assertThat(limiter.tryAcquire("EMILYS", "10.0.0.9")).isEqualTo(12);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(12));
+        assertThat(limiter.tryAcquire("emilys", "10.0.0.9")).isZero();
+        assertThat(limiter.tryAcquire("michaelw", "10.0.0.9")).isZero();
+    }
+
+    @Test
+    @DisplayName("one IP is throttled across many usernames")
+    void tryAcquire_PerIpAcrossUsers() {
+        LoginRateLimiter limiter = new LoginRateLimiter(true, 5, 5, 3, 60, 1024, nanos::get);
+
+        assertThat(limiter.tryAcquire("a", "203.0.113.7")).isZero();
+        assertThat(limiter.tryAcquire("b", "203.0.113.7")).isZero();
+        assertThat(limiter.tryAcquire("c", "203.0.113.7")).isZero();
+        assertThat(limiter.tryAcquire("d", "203.0.113.7")).isPositive();
+        assertThat(limiter.tryAcquire("d", "203.0.113.8")).isZero();
+    }
+
+    @Test
+    @DisplayName("disabled limiter always allows")
+    void tryAcquire_Disabled_AlwaysAllows() {
+        LoginRateLimiter limiter = new LoginRateLimiter(false, 1, 1, 1, 1, 16, nanos::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("emilys", "10.0.0.1")).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("a flood of distinct keys reuses the fixed table and only counts evicted active buckets")
+    void tryAcquire_HighCardinalityFlood_StaysBounded() {
+        LoginRateLimiter limiter = new LoginRateLimiter(true, 5, 5, 30, 60, 64, nanos::get);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(limiter.tryAcquire("user" + i, "10.0." + (i >> 8) + "." + (i & 0xFF))).isZero();
+        }
+
+        assertThat(limiter.activeEvictions()).isPositive();
+    }
+}
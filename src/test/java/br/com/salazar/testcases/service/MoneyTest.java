@@ -0,0 +1,86 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.model.dto.ProductResponseDto;
+import br.com.salazar.model.money.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MoneyTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "12.99, 1299",
+            "13, 1300",
+            "13.0, 1300",
+            "-0.5, -50",
+            "0.005, 0",
+            "0.015, 2",
+            "0.0151, 2",
+            "1.2345e2, 12345",
+            "129.9E-1, 1299",
+            "0.00000000000000000000001, 0",
+            "1e-50, 0",
+            "-9.99e-999999, 0",
+            "0e100, 0",
+            "92233720368547758.07, 9223372036854775807"
+    })
+    @DisplayName("parse converts decimal text to exact minor units, rounding half-even like BigDecimal")
+    void parse_MatchesBigDecimal(String text, long expected) {
+        assertThat(Money.parse(text)).isEqualTo(expected);
+        assertThat(Money.parse(text)).isEqualTo(new BigDecimal(text).setScale(Money.SCALE, RoundingMode.HALF_EVEN)
+                .unscaledValue().longValueExact());
+    }
+
+    @Test
+    @DisplayName("parse rejects malformed text and values outside the long range")
+    void parse_RejectsInvalidInput() {
+        assertThatThrownBy(() -> Money.parse("12,99")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("-")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("1e")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("92233720368547758.08")).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.parse("1e30")).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.parse("1e99999999999")).isInstanceOf(ArithmeticException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1299, 12.99", "1300, 13.00", "-50, -0.50", "7, 0.07", "0, 0.00",
+            "-9223372036854775808, -92233720368547758.08"})
+    @DisplayName("write prints minor units as a plain decimal")
+    void write_PrintsPlainDecimal(long minor, String expected) {
+        char[] buffer = new char[Money.MAX_CHARS + 3];
+
+        int length = Money.write(minor, buffer, 3);
+
+        assertThat(new String(buffer, 3, length)).isEqualTo(expected);
+        assertThat(Money.toString(minor)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("fromDouble and toDouble round-trip two-decimal prices exactly")
+    void fromDouble_RoundTripsPrices() {
+        for (long minor = 0; minor < 1_000_000; minor += 7) {
+            assertThat(Money.fromDouble(Money.toDouble(minor))).isEqualTo(minor);
+        }
+        assertThat(Money.toDouble(1299)).isEqualTo(12.99);
+        assertThatThrownBy(() -> Money.fromDouble(Double.NaN)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("the price of the upstream response is read and written without a double in between")
+    void json_RoundTripsPriceAsMinorUnits() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+
+        ProductResponseDto dto = mapper.readValue("{\"id\":1,\"price\":0.29}", ProductResponseDto.class);
+
+        assertThat(dto.getPrice()).isEqualTo(29L);
+        assertThat(mapper.writeValueAsString(dto)).contains("\"price\":0.29");
+    }
+}
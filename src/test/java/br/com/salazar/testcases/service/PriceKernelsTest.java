@@ -0,0 +1,76 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.service.catalog.PriceKernels;
+import br.com.salazar.service.catalog.ScalarPriceKernels;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PriceKernelsTest {
+
+    private final PriceKernels scalar = new ScalarPriceKernels();
+
+    @Test
+    @DisplayName("scalar kernels apply the discount and skip products without price")
+    void scalar_ComputesFinalPricesTotalsAndHistogram() {
+        double[] prices = {100.0, 200.0, Double.NaN, 40.0};
+        double[] discounts = {10.0, Double.NaN, 5.0, 50.0};
+        int[] stocks = {2, 1, 9, 0};
+
+        double[] finalPrices = new double[4];
+        scalar.finalPrices(prices, discounts, finalPrices);
+        assertThat(finalPrices[0]).isCloseTo(90.0, within(1e-9));
+        assertThat(finalPrices[1]).isEqualTo(200.0);
+        assertThat(finalPrices[2]).isNaN();
+        assertThat(finalPrices[3]).isCloseTo(20.0, within(1e-9));
+
+        PriceKernels.Totals totals = scalar.totals(prices, finalPrices, stocks);
+        assertThat(totals.pricedCount()).isEqualTo(3);
+        assertThat(totals.inventoryValue()).isCloseTo(400.0, within(1e-9));
+        assertThat(totals.discountedInventoryValue()).isCloseTo(380.0, within(1e-9));
+
+        long[] histogram = new long[3];
+        scalar.histogram(finalPrices, 50.0, histogram);
+        assertThat(histogram).containsExactly(1, 1, 1);
+    }
+
+    @Test
+    @DisplayName("the selected kernels match the scalar fallback on a large catalog")
+    void best_MatchesScalar() {
+        int n = 10_007;
+        Random random = new Random(42);
+        double[] prices = new double[n];
+        double[] discounts = new double[n];
+        int[] stocks = new int[n];
+        for (int i = 0; i < n; i++) {
+            prices[i] = random.nextInt(20) == 0 ? Double.NaN : random.nextDouble() * 2_000;
+            discounts[i] = random.nextInt(10) == 0 ? Double.NaN : random.nextDouble() * 30;
+            stocks[i] = random.nextInt(200);
+        }
+        PriceKernels best = PriceKernels.best();
+
+        double[] expected = new double[n];
+        double[] actual = new double[n];
+        scalar.finalPrices(prices, discounts, expected);
+        best.finalPrices(prices, discounts, actual);
+        assertThat(actual).containsExactly(expected);
+
+        PriceKernels.Totals expectedTotals = scalar.totals(prices, expected, stocks);
+        PriceKernels.Totals actualTotals = best.totals(prices, actual, stocks);
+        assertThat(actualTotals.pricedCount()).isEqualTo(expectedTotals.pricedCount());
+        // A ordem das somas muda entre as implementações
+        assertThat(actualTotals.inventoryValue()).isCloseTo(expectedTotals.inventoryValue(), withinPercentage(1e-9));
+        assertThat(actualTotals.discountedInventoryValue())
+                .isCloseTo(expectedTotals.discountedInventoryValue(), withinPercentage(1e-9));
+
+        long[] expectedHistogram = new long[21];
+        long[] actualHistogram = new long[21];
+        scalar.histogram(expected, 50.0, expectedHistogram);
+        best.histogram(actual, 50.0, actualHistogram);
+        assertThat(actualHistogram).containsExactly(expectedHistogram);
+    }
+}
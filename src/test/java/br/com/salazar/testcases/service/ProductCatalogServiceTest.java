@@ -0,0 +1,146 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.exception.ValidationException;
+import br.com.salazar.model.dto.ProductDto;
+import br.com.salazar.model.dto.ProductStatsResponseDto;
+import br.com.salazar.service.ProductCatalogService;
+import br.com.salazar.service.catalog.CatalogSnapshot;
+import br.com.salazar.service.catalog.CompactProduct;
+import br.com.salazar.service.upstream.JsonPageReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProductCatalogServiceTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProductCatalogService service =
+            new ProductCatalogService(restTemplate, objectMapper, new JsonPageReader(objectMapper));
+
+    @Test
+    @DisplayName("similar rejects k outside 1..100 before touching the catalog")
+    void similar_KOutOfRange_ThrowsValidation() {
+        assertThatThrownBy(() -> service.similar(1L, 0)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> service.similar(1L, 101)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> service.similar(1L, Integer.MAX_VALUE))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("k");
+
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    @DisplayName("created products stay in the stats across catalog reloads")
+    void stats_CreatedProductsSurvivePublish() {
+        service.publish(CatalogSnapshot.of(List.of(compact(1L, "laptops", 1999.0)), 10));
+        service.recordCreated(product(900L, "gadgets", 10.0));
+
+        service.publish(CatalogSnapshot.of(List.of(compact(1L, "laptops", 1999.0), compact(2L, "laptops", 999.0)), 10));
+        ProductStatsResponseDto stats = service.stats();
+
+        assertThat(stats.getOverall().getCount()).isEqualTo(3L);
+        assertThat(stats.getCategories().get("laptops").getCount()).isEqualTo(2L);
+        assertThat(stats.getCategories().get("gadgets").getCount()).isEqualTo(1L);
+        assertThat(stats.getOverall().getMinPrice()).isEqualTo(10.0);
+
+        service.publish(CatalogSnapshot.of(List.of(compact(1L, "laptops", 1999.0)), 10));
+        assertThat(service.stats().getOverall().getCount()).isEqualTo(2L);
+        assertThat(service.stats().getCategories()).containsKey("gadgets");
+    }
+
+    @Test
+    @DisplayName("a created product whose price does not fit in cents is left out of the stats")
+    void recordCreated_PriceOutOfRange_IsSkipped() {
+        service.publish(CatalogSnapshot.of(List.of(compact(1L, "laptops", 1999.0)), 10));
+
+        service.recordCreated(product(900L, "gadgets", 1e300));
+
+        assertThat(service.stats().getOverall().getCount()).isEqualTo(1L);
+        assertThat(service.stats().getCategories()).doesNotContainKey("gadgets");
+    }
+
+    @Test
+    @DisplayName("streamCatalog writes one JSON object per line, flushes every 200 products and leaves the stream open")
+    void streamCatalog_WritesNdjsonInFlushedBlocks() throws Exception {
+        ReflectionTestUtils.setField(service, "baseUrl", "https://dummyjson.com");
+        StringBuilder body = new StringBuilder("{\"products\":[");
+        for (int i = 1; i <= 450; i++) {
+            body.append(i > 1 ? "," : "").append(objectMapper.writeValueAsString(product(i, "cat-" + (i % 3), i)));
+        }
+        body.append("],\"total\":450,\"skip\":0,\"limit\":0}");
+        when(restTemplate.execute(eq("https://dummyjson.com/products?limit=0"), eq(HttpMethod.GET), any(), any()))
+                .thenAnswer(invocation -> {
+                    ResponseExtractor<?> extractor = invocation.getArgument(3);
+                    return extractor.extractData(new MockClientHttpResponse(
+                            body.toString().getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+                });
+        RecordingStream out = new RecordingStream();
+
+        long written = service.streamCatalog(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(450);
+        assertThat(lines).hasSize(450);
+        for (int i = 0; i < lines.length; i++) {
+            ProductDto line = objectMapper.readValue(lines[i], ProductDto.class);
+            assertThat(line.getId()).isEqualTo(i + 1L);
+        }
+        // Linhas completas a cada flush: 200, 400 e o restante no fim
+        assertThat(out.linesAtFlush).startsWith(200L, 400L).contains(450L).doesNotContain(0L);
+        assertThat(out.closed).isFalse();
+    }
+
+    // Registra quantas linhas já tinham sido escritas em cada flush e se houve close
+    private static final class RecordingStream extends ByteArrayOutputStream {
+        private final List<Long> linesAtFlush = new ArrayList<>();
+        private boolean closed;
+
+        @Override
+        public void flush() {
+            long lines = 0;
+            for (int i = 0; i < count; i++) {
+                if (buf[i] == '\n') {
+                    lines++;
+                }
+            }
+            linesAtFlush.add(lines);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static CompactProduct compact(long id, String category, double price) {
+        return CompactProduct.of(product(id, category, price));
+    }
+
+    private static ProductDto product(long id, String category, double price) {
+        ProductDto dto = new ProductDto();
+        dto.setId(id);
+        dto.setTitle("Product " + id);
+        dto.setCategory(category);
+        dto.setBrand("Brand");
+        dto.setPrice(price);
+        dto.setStock(1);
+        return dto;
+    }
+}
@@ -3,11 +3,16 @@ package br.com.salazar.testcases.service;
 import br.com.salazar.model.dto.ProductCreateRequestDto;
 import br.com.salazar.model.dto.ProductDto;
 import br.com.salazar.model.dto.ProductResponseDto;
+import br.com.salazar.model.dto.ProductsBatchResponseDto;
 import br.com.salazar.model.dto.ProductsResponseDto;
+import br.com.salazar.service.ProductCatalogService;
 import br.com.salazar.service.ProductService;
 import br.com.salazar.service.ProductService.ForbiddenException;
 import br.com.salazar.service.ProductService.UnauthorizedException;
+import br.com.salazar.service.auth.AuthenticatedProductsCache;
+import br.com.salazar.service.auth.JwtVerifier;
 import br.com.salazar.exception.ProductNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,12 +20,16 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.*;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +40,13 @@ class ProductServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private ProductCatalogService catalog;
+
+    @Spy
+    private AuthenticatedProductsCache productsCache = new AuthenticatedProductsCache(
+            new JwtVerifier(new ObjectMapper(), "", 16, 30, Clock.systemUTC()), 60, 30, 16, Clock.systemUTC());
+
     @InjectMocks
     private ProductService service;
 
@@ -59,6 +75,21 @@ class ProductServiceTest {
         verify(restTemplate, times(1)).exchange(anyString(), any(), any(), eq(ProductsResponseDto.class));
     }
 
+    @Test
+    @DisplayName("getProducts serves a recently accepted token from the cache and sends unknown tokens upstream")
+    void getProducts_AcceptedToken_ServedFromCache() {
+        ProductsResponseDto body = new ProductsResponseDto();
+        when(restTemplate.exchange(anyString(), any(), any(), eq(ProductsResponseDto.class)))
+                .thenReturn(new ResponseEntity<>(body, HttpStatus.OK));
+
+        service.getProducts("validToken");
+        ProductsResponseDto cached = service.getProducts("validToken");
+        service.getProducts("otherToken");
+
+        assertThat(cached).isSameAs(body);
+        verify(restTemplate, times(2)).exchange(anyString(), any(), any(), eq(ProductsResponseDto.class));
+    }
+
     @Test
     @DisplayName("getProducts with invalid token throws UnauthorizedException")
     void getProducts_Unauthorized_ThrowsUnauthorizedException() {
@@ -111,7 +142,7 @@ class ProductServiceTest {
         ProductResponseDto apiResponse = new ProductResponseDto();
         apiResponse.setId(101L);
         apiResponse.setTitle("Perfume Oil");
-        apiResponse.setPrice(13.0);
+        apiResponse.setPrice(1300L); // Centavos
         apiResponse.setStock(65);
 
         ResponseEntity<ProductResponseDto> response = new ResponseEntity<>(apiResponse, HttpStatus.CREATED);
@@ -129,9 +160,10 @@ class ProductServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(101L);
-        assertThat(result.getName()).isEqualTo("Perfume Oil"); // Convertido title -> name
-        assertThat(result.getPrice()).isEqualTo(new BigDecimal("13.0")); // Convertido Double -> BigDecimal
-        assertThat(result.getStockQuantity()).isEqualTo(65); // Convertido stock -> stockQuantity
+        assertThat(result.getTitle()).isEqualTo("Perfume Oil");
+        assertThat(result.getPrice()).isEqualTo(13.0); // Convertido centavos -> Double
+        assertThat(result.getStock()).isEqualTo(65);
+        verify(catalog, times(1)).recordCreated(result);
     }
 
     @Test
@@ -224,4 +256,74 @@ class ProductServiceTest {
                 .isInstanceOf(ProductNotFoundException.class)
                 .hasMessageContaining("Product not found with id: 999");
     }
+
+    @Test
+    @DisplayName("getProductsByIds serves cache hits locally and fetches misses upstream")
+    void getProductsByIds_MixesCacheAndUpstream() {
+        // Executor síncrono para o teste ser determinístico
+        ProductService batchService = new ProductService(restTemplate, catalog, Runnable::run, productsCache);
+        ReflectionTestUtils.setField(batchService, "baseUrl", "https://dummyjson.com");
+
+        ProductDto cached = new ProductDto();
+        cached.setId(1L);
+        when(catalog.findCached(1L)).thenReturn(cached);
+
+        ProductDto remote = new ProductDto();
+        remote.setId(5L);
+        when(restTemplate.exchange(eq("https://dummyjson.com/products/5"), eq(HttpMethod.GET),
+                any(HttpEntity.class), eq(ProductDto.class)))
+                .thenReturn(new ResponseEntity<>(remote, HttpStatus.OK));
+        when(restTemplate.exchange(eq("https://dummyjson.com/products/42"), eq(HttpMethod.GET),
+                any(HttpEntity.class), eq(ProductDto.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found",
+                        HttpHeaders.EMPTY, "".getBytes(), null));
+
+        ProductsBatchResponseDto result = batchService.getProductsByIds(List.of(5L, 1L, 42L, 5L));
+
+        assertThat(result.getProducts()).extracting(ProductDto::getId).containsExactly(5L, 1L);
+        assertThat(result.getNotFound()).containsExactly(42L);
+        assertThat(result.getFailed()).isEmpty();
+        verify(restTemplate, never()).exchange(eq("https://dummyjson.com/products/1"), any(), any(), eq(ProductDto.class));
+    }
+
+    @Test
+    @DisplayName("getProductsByIds reports ids still pending at the batch deadline as failed")
+    void getProductsByIds_DeadlineExceeded_ReportsFailed() {
+        // Executor que nunca executa: a busca do id 7 fica pendente para sempre
+        ProductService batchService = new ProductService(restTemplate, catalog, task -> { }, productsCache);
+        ReflectionTestUtils.setField(batchService, "baseUrl", "https://dummyjson.com");
+        ReflectionTestUtils.setField(batchService, "batchTimeoutMillis", 50L);
+
+        ProductDto cached = new ProductDto();
+        cached.setId(1L);
+        when(catalog.findCached(1L)).thenReturn(cached);
+
+        long start = System.nanoTime();
+        ProductsBatchResponseDto result = batchService.getProductsByIds(List.of(1L, 7L));
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000);
+        assertThat(result.getProducts()).extracting(ProductDto::getId).containsExactly(1L);
+        assertThat(result.getFailed()).containsExactly(7L);
+        assertThat(result.getNotFound()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("getProductsByIds reports ids rejected by a full batch queue as failed without calling upstream")
+    void getProductsByIds_QueueFull_ReportsFailed() {
+        // Executor com a fila cheia: toda submissão é recusada
+        ProductService batchService = new ProductService(restTemplate, catalog,
+                task -> { throw new RejectedExecutionException("fila cheia"); }, productsCache);
+        ReflectionTestUtils.setField(batchService, "baseUrl", "https://dummyjson.com");
+
+        ProductDto cached = new ProductDto();
+        cached.setId(1L);
+        when(catalog.findCached(1L)).thenReturn(cached);
+
+        ProductsBatchResponseDto result = batchService.getProductsByIds(List.of(1L, 7L, 8L));
+
+        assertThat(result.getProducts()).extracting(ProductDto::getId).containsExactly(1L);
+        assertThat(result.getFailed()).containsExactly(7L, 8L);
+        assertThat(result.getNotFound()).isEmpty();
+        verify(restTemplate, never()).exchange(anyString(), any(), any(), eq(ProductDto.class));
+    }
 }
@@ -0,0 +1,42 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.service.catalog.SimilarityIndex;
+import br.com.salazar.service.catalog.SimilarityIndex.Document;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SimilarityIndexTest {
+
+    private final SimilarityIndex index = SimilarityIndex.build(List.of(
+            new Document("iPhone 15 Pro", "Apple smartphone with titanium design", "smartphones", 999.0, 4.8),
+            new Document("Samsung Galaxy S24", "Android smartphone with great camera", "smartphones", 899.0, 4.6),
+            new Document("Essence Mascara", "Long lash mascara", "beauty", 9.99, 4.1),
+            new Document("Eyeshadow Palette", "Beauty palette with mirror", "beauty", 19.99, 4.0)
+    ));
+
+    @Test
+    @DisplayName("similar ranks products of the same kind first")
+    void similar_RanksSameCategoryFirst() {
+        assertThat(index.similar(0, 1)).containsExactly(1);
+        assertThat(index.similar(2, 1)).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("similar never returns the reference product and respects k")
+    void similar_ExcludesSelfAndRespectsK() {
+        assertThat(index.similar(0, 10)).hasSize(3).doesNotContain(0);
+        assertThat(index.similar(0, 0)).isEmpty();
+        assertThat(index.similar(99, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("similar clamps k to the catalog size instead of allocating k slots")
+    void similar_HugeK_ClampedToCatalogSize() {
+        assertThat(index.similar(1, Integer.MAX_VALUE)).hasSize(3).doesNotContain(1);
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.service.catalog.TitleSuggestIndex;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TitleSuggestIndexTest {
+
+    // Já em ordem de rating (melhor primeiro)
+    private final TitleSuggestIndex index = TitleSuggestIndex.build(List.of(
+            "iPhone 15 Pro",
+            "Samsung Galaxy S24",
+            "Crème Brûlée Perfume",
+            "iPad Air",
+            "Samsung Universe 9"
+    ), 3);
+
+    @Test
+    @DisplayName("suggest returns titles by prefix in rating order")
+    void suggest_ByPrefix_ReturnsRankedTitles() {
+        assertThat(index.suggest("sam", 10))
+                .containsExactly("Samsung Galaxy S24", "Samsung Universe 9");
+        assertThat(index.suggest("i", 10))
+                .containsExactly("iPhone 15 Pro", "iPad Air");
+    }
+
+    @Test
+    @DisplayName("suggest ignores case, accents and extra whitespace")
+    void suggest_FoldsAccentsAndCase() {
+        assertThat(index.suggest("CREME  bru", 10)).containsExactly("Crème Brûlée Perfume");
+        assertThat(index.suggest("brûl", 10)).containsExactly("Crème Brûlée Perfume");
+    }
+
+    @Test
+    @DisplayName("suggest matches the start of any word")
+    void suggest_MatchesWordStarts() {
+        assertThat(index.suggest("galax", 10)).containsExactly("Samsung Galaxy S24");
+        assertThat(index.suggest("alaxy", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("suggest respects limit and the precomputed top-K")
+    void suggest_RespectsLimitAndK() {
+        assertThat(index.suggest("", 10)).hasSize(3);
+        assertThat(index.suggest("sam", 1)).containsExactly("Samsung Galaxy S24");
+        assertThat(index.suggest("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("suggest handles prefixes deeper than the trie")
+    void suggest_LongPrefix_FallsBackToScan() {
+        TitleSuggestIndex longIndex = TitleSuggestIndex.build(List.of(
+                "Extra Long Product Title For Autocomplete Tests",
+                "Extra Long Product Title For Autocomplete Demo"), 5);
+
+        assertThat(longIndex.suggest("extra long product title for autocomplete t", 5))
+                .containsExactly("Extra Long Product Title For Autocomplete Tests");
+    }
+}
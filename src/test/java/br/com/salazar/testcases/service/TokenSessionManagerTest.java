@@ -0,0 +1,128 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.exception.AuthenticationException;
+import br.com.salazar.model.dto.LoginResponseDto;
+import br.com.salazar.model.dto.RefreshTokenResponseDto;
+import br.com.salazar.service.AuthService;
+import br.com.salazar.service.auth.JwtVerifier;
+import br.com.salazar.service.auth.TokenSessionManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TokenSessionManagerTest {
+
+    private static final long NOW = 1_750_000_000L;
+
+    private final AuthService authService = mock(AuthService.class);
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private TokenSessionManager sessions;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.ofEpochSecond(NOW), ZoneOffset.UTC);
+        JwtVerifier verifier = new JwtVerifier(new ObjectMapper(), "", 16, 0, clock);
+        sessions = new TokenSessionManager(authService, verifier, tasks::add, 60, 1800, 100, clock);
+    }
+
+    @Test
+    @DisplayName("tokens about to expire are refreshed once in the background and then served from memory")
+    void refreshExpiring_CoalescesAndServesFromMemory() {
+        sessions.register(login(jwt("a1", NOW + 30), jwt("r1", NOW + 86_400)));
+        when(authService.refresh(jwt("r1", NOW + 86_400)))
+                .thenReturn(new RefreshTokenResponseDto(jwt("a2", NOW + 3600), jwt("r2", NOW + 86_400)));
+
+        sessions.refreshExpiring();
+        sessions.refreshExpiring();
+        assertThat(tasks).hasSize(1);
+        tasks.poll().run();
+
+        RefreshTokenResponseDto response = sessions.refresh(jwt("r1", NOW + 86_400));
+
+        assertThat(response.getToken()).isEqualTo(jwt("a2", NOW + 3600));
+        assertThat(response.getRefreshToken()).isEqualTo(jwt("r2", NOW + 86_400));
+        assertThat(tasks).isEmpty();
+        verify(authService, times(1)).refresh(anyString());
+    }
+
+    @Test
+    @DisplayName("a refresh token already exchanged is forwarded upstream instead of getting the newest pair")
+    void refresh_RotatedRefreshToken_GoesUpstream() {
+        Clock clock = Clock.fixed(Instant.ofEpochSecond(NOW), ZoneOffset.UTC);
+        TokenSessionManager direct = new TokenSessionManager(authService,
+                new JwtVerifier(new ObjectMapper(), "", 16, 0, clock), Runnable::run, 60, 1800, 100, clock);
+        String r1 = jwt("r1", NOW + 86_400);
+        String r2 = jwt("r2", NOW + 86_400);
+        direct.register(login(jwt("a1", NOW + 30), r1));
+        when(authService.refresh(r1)).thenReturn(new RefreshTokenResponseDto(jwt("a2", NOW + 3600), r2));
+        direct.refreshExpiring();
+
+        assertThat(direct.refresh(r1).getRefreshToken()).isEqualTo(r2);
+
+        when(authService.refresh(r1)).thenThrow(new AuthenticationException("Invalid or expired refresh token"));
+        assertThatThrownBy(() -> direct.refresh(r1)).isInstanceOf(AuthenticationException.class);
+        verify(authService, times(2)).refresh(r1);
+
+        assertThat(direct.refresh(r2).getToken()).isEqualTo(jwt("a2", NOW + 3600));
+        verify(authService, never()).refresh(r2);
+    }
+
+    @Test
+    @DisplayName("tokens far from expiry are not refreshed")
+    void refreshExpiring_SkipsFreshTokens() {
+        sessions.register(login(jwt("a1", NOW + 3600), jwt("r1", NOW + 86_400)));
+
+        sessions.refreshExpiring();
+
+        assertThat(tasks).isEmpty();
+        assertThat(sessions.refresh(jwt("r1", NOW + 86_400)).getToken()).isEqualTo(jwt("a1", NOW + 3600));
+        verifyNoInteractions(authService);
+    }
+
+    @Test
+    @DisplayName("a refresh rejected upstream drops the session and surfaces AuthenticationException")
+    void refresh_RejectedUpstream_Throws() {
+        TokenSessionManager direct = new TokenSessionManager(authService,
+                new JwtVerifier(new ObjectMapper(), "", 16, 0, Clock.fixed(Instant.ofEpochSecond(NOW), ZoneOffset.UTC)),
+                Runnable::run, 60, 1800, 100, Clock.fixed(Instant.ofEpochSecond(NOW), ZoneOffset.UTC));
+        when(authService.refresh(anyString())).thenThrow(new AuthenticationException("Invalid or expired refresh token"));
+
+        assertThatThrownBy(() -> direct.refresh(jwt("r1", NOW + 86_400)))
+                .isInstanceOf(AuthenticationException.class);
+        assertThat(direct.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("malformed refresh tokens are rejected without calling upstream")
+    void refresh_MalformedToken_Throws() {
+        assertThatThrownBy(() -> sessions.refresh("refresh123")).isInstanceOf(AuthenticationException.class);
+        verifyNoInteractions(authService);
+    }
+
+    private static LoginResponseDto login(String token, String refreshToken) {
+        return new LoginResponseDto(1L, "emilys", "emily.johnson@x.dummyjson.com", "Emily", "Johnson", "female",
+                "https://dummyjson.com/icon/emilys/128", token, refreshToken);
+    }
+
+    // JWT sem assinatura válida: a assinatura não é verificada sem chave configurada
+    private static String jwt(String subject, long exp) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"id\":1,\"username\":\"" + subject + "\",\"exp\":" + exp + "}")
+                .getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".c2lnbmF0dXJl";
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.service.catalog.TrigramIndex;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    // Título e marca, já em ordem de rating (melhor primeiro)
+    private final TrigramIndex index = TrigramIndex.build(List.of(
+            new String[] {"Samsung Galaxy S24", "Samsung"},
+            new String[] {"iPhone 15 Pro", "Apple"},
+            new String[] {"Essence Mascara Lash Princess", "Essence"},
+            new String[] {"Galaxy Buds", "Samsung"}
+    ));
+
+    @Test
+    @DisplayName("search tolerates misspelled brands")
+    void search_MisspelledBrand_ReturnsMatches() {
+        assertThat(index.search("samsng", 10)).containsExactly(0, 3);
+        assertThat(index.search("aple", 10)).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("search requires every query word to match")
+    void search_MultipleWords_AllMustMatch() {
+        assertThat(index.search("mascra esence", 10)).containsExactly(2);
+        assertThat(index.search("galaxi buds", 10)).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("search ranks exact matches before fuzzy ones")
+    void search_RanksByDistance() {
+        TrigramIndex ranked = TrigramIndex.build(List.of(
+                new String[] {"Phone Holder", "Generic"},
+                new String[] {"Phane Case", "Generic"}
+        ));
+
+        assertThat(ranked.search("phane", 10)).containsExactly(1, 0);
+    }
+
+    @Test
+    @DisplayName("search returns nothing for unrelated or blank queries")
+    void search_NoMatch_ReturnsEmpty() {
+        assertThat(index.search("xyz", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search("samsng", 1)).containsExactly(0);
+    }
+}
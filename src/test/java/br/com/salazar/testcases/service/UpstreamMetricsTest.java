@@ -0,0 +1,101 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.model.dto.UpstreamMetricsResponseDto;
+import br.com.salazar.model.dto.UpstreamRouteMetricsDto;
+import br.com.salazar.service.upstream.LatencyHistogram;
+import br.com.salazar.service.upstream.UpstreamMetrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.SocketTimeoutException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+class UpstreamMetricsTest {
+
+    private static final String BASE_URL = "https://dummyjson.com";
+
+    private UpstreamMetrics metrics;
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new UpstreamMetrics();
+        restTemplate = new RestTemplate();
+        restTemplate.setInterceptors(List.of(metrics));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    @DisplayName("exchanges are grouped by normalized route and status class, with bytes read")
+    void intercept_RecordsLatencyAndBytesPerRoute() {
+        server.expect(requestTo(BASE_URL + "/products/1"))
+                .andRespond(withSuccess("{\"id\":1}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE_URL + "/products/999"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        restTemplate.getForObject(BASE_URL + "/products/1", String.class);
+        assertThatThrownBy(() -> restTemplate.getForObject(BASE_URL + "/products/999", String.class))
+                .isInstanceOf(HttpClientErrorException.NotFound.class);
+
+        UpstreamRouteMetricsDto route = route(metrics.snapshot(), "GET /products/{id}");
+        assertThat(route.getLatency()).containsOnlyKeys("2xx", "4xx");
+        assertThat(route.getLatency().get("2xx").getCount()).isEqualTo(1);
+        assertThat(route.getLatency().get("4xx").getCount()).isEqualTo(1);
+        assertThat(route.getBytesReceived()).isEqualTo(8);
+        assertThat(route.getInFlight()).isZero();
+        assertThat(route.getErrors()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("failures without an HTTP response are counted by exception type")
+    void intercept_CountsErrorsByExceptionType() {
+        server.expect(requestTo(BASE_URL + "/users"))
+                .andRespond(withException(new SocketTimeoutException("Read timed out")));
+
+        assertThatThrownBy(() -> restTemplate.getForObject(BASE_URL + "/users", String.class))
+                .isInstanceOf(ResourceAccessException.class);
+
+        UpstreamRouteMetricsDto route = route(metrics.snapshot(), "GET /users");
+        assertThat(route.getErrors()).containsEntry("SocketTimeoutException", 1L);
+        assertThat(route.getLatency()).isEmpty();
+        assertThat(route.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("histogram percentiles stay within the bucket precision")
+    void histogram_ReportsPercentilesWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(100_000);
+        assertThat(snapshot.valueAt(50)).isCloseTo(50_000, withinPercentage(1.6));
+        assertThat(snapshot.valueAt(99)).isCloseTo(99_000, withinPercentage(1.6));
+        assertThat(snapshot.valueAt(99.9)).isCloseTo(99_900, withinPercentage(1.6));
+        assertThat(snapshot.valueAt(100)).isEqualTo(100_000);
+        assertThat(snapshot.meanMicros()).isEqualTo(50_000.5);
+    }
+
+    private static UpstreamRouteMetricsDto route(UpstreamMetricsResponseDto snapshot, String name) {
+        return snapshot.getRoutes().stream()
+                .filter(route -> route.getRoute().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Rota não registrada: " + name));
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.salazar.testcases.service;
+
+import br.com.salazar.service.catalog.UrlColumn;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UrlColumnTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UrlColumnTest.class);
+
+    private static final int PRODUCTS = 1_000;
+    private static final int CATEGORIES = 24;
+
+    @Test
+    @DisplayName("urls are rebuilt exactly, including a missing thumbnail and urls without a directory")
+    void url_RoundTrips() {
+        UrlColumn.Builder builder = UrlColumn.builder();
+        List<String> first = urls(1);
+        first.forEach(builder::add);
+        builder.endRow();
+        builder.add(null);
+        builder.add("logo.png");
+        builder.add("https://other.cdn/3.png");
+        builder.add("https://other.cdn/dir/");
+        builder.endRow();
+        UrlColumn column = builder.build();
+
+        assertThat(column.rows()).isEqualTo(2);
+        assertThat(column.count(0)).isEqualTo(first.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(column.url(0, i)).isEqualTo(first.get(i));
+        }
+        assertThat(column.url(1, 0)).isNull();
+        assertThat(column.url(1, 1)).isEqualTo("logo.png");
+        assertThat(column.url(1, 2)).isEqualTo("https://other.cdn/3.png");
+        assertThat(column.url(1, 3)).isEqualTo("https://other.cdn/dir/");
+    }
+
+    @Test
+    @DisplayName("the CDN category prefix is stored once per category")
+    void build_PoolsCategoryPrefixes() {
+        UrlColumn column = column();
+
+        assertThat(column.rows()).isEqualTo(PRODUCTS);
+        assertThat(column.prefixCount()).isEqualTo(CATEGORIES);
+    }
+
+    @Test
+    @DisplayName("the url column alone needs at most a third of the heap of the whole url strings")
+    void build_UsesLessHeapThanWholeUrls() {
+        List<String> whole = new ArrayList<>();
+        for (int i = 1; i <= PRODUCTS; i++) {
+            whole.addAll(urls(i));
+        }
+        UrlColumn column = column();
+
+        // Só as URLs: as Strings inteiras (como ficavam nas colunas) contra a coluna com dicionário
+        long before = GraphLayout.parseInstance((Object) whole.toArray(new String[0])).totalSize();
+        long after = GraphLayout.parseInstance(column).totalSize();
+        log.info("Heap das URLs de {} produtos: Strings inteiras {} bytes, UrlColumn {} bytes ({}x)",
+                PRODUCTS, before, after, String.format("%.2f", (double) before / after));
+
+        assertThat(after * 3).isLessThanOrEqualTo(before);
+    }
+
+    private static UrlColumn column() {
+        UrlColumn.Builder builder = UrlColumn.builder();
+        for (int i = 1; i <= PRODUCTS; i++) {
+            urls(i).forEach(builder::add);
+            builder.endRow();
+        }
+        return builder.build();
+    }
+
+    // Formato do dummyjson: CDN, categoria, título do produto e o arquivo; cada URL é uma instância nova
+    private static List<String> urls(int i) {
+        String directory = "https://cdn.dummyjson.com/products/images/category-" + (i % CATEGORIES)
+                + "/Product%20Name%20" + i + "/";
+        List<String> urls = new ArrayList<>();
+        urls.add(directory + "thumbnail.png");
+        for (int image = 1; image <= 3; image++) {
+            urls.add(directory + image + ".png");
+        }
+        return urls;
+    }
+}